@@ -21,11 +21,18 @@ version = "1.5.0"
 if (ciRun)
     version = "$version-SNAPSHOT"
 
+val processor by sourceSets.registering
+
 val testmod by sourceSets.registering {
     compileClasspath += sourceSets.main.get().compileClasspath
     runtimeClasspath += sourceSets.main.get().runtimeClasspath
 }
 
+val jmh by sourceSets.registering {
+    compileClasspath += sourceSets.main.get().compileClasspath
+    runtimeClasspath += sourceSets.main.get().runtimeClasspath
+}
+
 loom {
     accessWidenerPath.set(file("src/main/resources/yacl.accesswidener"))
 
@@ -60,6 +67,11 @@ dependencies {
     }
 
     "testmodImplementation"(sourceSets.main.get().output)
+    "testmodAnnotationProcessor"(processor.get().output)
+
+    "jmhImplementation"(sourceSets.main.get().output)
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.36")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.36")
 }
 
 java {
@@ -93,6 +105,45 @@ tasks {
         }
     }
 
+    register<Jar>("processorJar") {
+        group = "build"
+        archiveClassifier.set("processor")
+        from(processor.get().output)
+    }
+
+    named("assemble") {
+        dependsOn("processorJar")
+    }
+
+    named("check") {
+        dependsOn(jmh.get().classesTaskName)
+    }
+
+    // the benchmarks poke at client internals to run headless, their warnings shouldn't clutter every build
+    named<JavaCompile>(jmh.get().compileJavaTaskName) {
+        options.compilerArgs.add("-Xlint:none")
+        options.isWarnings = false
+    }
+
+    // ./gradlew jmh -Pjmh.args="SearchBenchmark -p optionCount=1000"
+    register<JavaExec>("jmh") {
+        group = "verification"
+        description = "Runs the JMH benchmarks"
+
+        val results = layout.buildDirectory.file("reports/jmh/results.json")
+        outputs.file(results)
+        outputs.upToDateWhen { false }
+
+        classpath = jmh.get().runtimeClasspath
+        mainClass.set("org.openjdk.jmh.Main")
+        args(findProperty("jmh.args")?.toString()?.split(" ")?.filter { it.isNotBlank() } ?: emptyList<String>())
+        args("-rf", "json", "-rff", results.get().asFile.absolutePath)
+
+        doFirst {
+            results.get().asFile.parentFile.mkdirs()
+        }
+    }
+
     register("releaseMod") {
         group = "mod"
 
@@ -179,6 +230,7 @@ publishing {
             artifactId = "yet-another-config-lib"
 
             from(components["java"])
+            artifact(tasks["processorJar"])
         }
     }
 
@@ -0,0 +1,112 @@
+package dev.isxander.yacl.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import dev.isxander.yacl.api.ConfigCategory;
+import dev.isxander.yacl.api.Option;
+import dev.isxander.yacl.api.OptionChange;
+import dev.isxander.yacl.api.OptionGroup;
+import dev.isxander.yacl.api.YetAnotherConfigLib;
+import dev.isxander.yacl.gui.controllers.TickBoxController;
+import dev.isxander.yacl.gui.controllers.slider.IntegerSliderController;
+import dev.isxander.yacl.gui.controllers.string.StringController;
+import net.minecraft.text.Text;
+
+import java.util.function.Consumer;
+
+/**
+ * Generates configs of a given size for benchmarks.
+ * Options cycle through booleans, integer sliders and strings,
+ * in groups of {@value #OPTIONS_PER_GROUP} and categories of {@value #GROUPS_PER_CATEGORY} groups.
+ */
+public final class BenchmarkConfigs {
+    public static final int OPTIONS_PER_GROUP = 20;
+    public static final int GROUPS_PER_CATEGORY = 25;
+
+    /** Words option names are made of, so searches match a realistic share of options. */
+    private static final String[] WORDS = {
+            "Render", "Distance", "Chunk", "Shadow", "Quality", "Particles", "Smooth", "Lighting",
+            "Entity", "Sound", "Volume", "Scale", "Opacity", "Colour", "Toggle", "Speed"
+    };
+
+    private BenchmarkConfigs() {
+    }
+
+    public static YetAnotherConfigLib create(int optionCount) {
+        return create(optionCount, changes -> {});
+    }
+
+    public static YetAnotherConfigLib create(int optionCount, Consumer<ImmutableList<OptionChange<?>>> saveFunction) {
+        YetAnotherConfigLib.Builder builder = YetAnotherConfigLib.createBuilder()
+                .title(Text.literal("Benchmark"))
+                .saveChanges(saveFunction);
+
+        int created = 0;
+        for (int categoryIdx = 0; created < optionCount; categoryIdx++) {
+            ConfigCategory.Builder category = ConfigCategory.createBuilder()
+                    .name(Text.literal("Category " + categoryIdx));
+
+            for (int groupIdx = 0; groupIdx < GROUPS_PER_CATEGORY && created < optionCount; groupIdx++) {
+                OptionGroup.Builder group = OptionGroup.createBuilder()
+                        .name(Text.literal(WORDS[groupIdx % WORDS.length] + " Group " + categoryIdx + "." + groupIdx))
+                        .tooltip(Text.literal("Group tooltip"));
+
+                for (int optionIdx = 0; optionIdx < OPTIONS_PER_GROUP && created < optionCount; optionIdx++) {
+                    group.option(createOption(created++));
+                }
+                category.group(group.build());
+            }
+            builder.category(category.build());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Changes the pending value of an option created by this class, alternating between two values.
+     */
+    @SuppressWarnings("unchecked")
+    public static void modify(Option<?> option) {
+        Object value = option.pendingValue();
+        if (value instanceof Boolean bool)
+            ((Option<Boolean>) option).requestSet(!bool);
+        else if (value instanceof Integer integer)
+            ((Option<Integer>) option).requestSet(integer == 50 ? 51 : 50);
+        else if (value instanceof String string)
+            ((Option<String>) option).requestSet(string.endsWith("!") ? string.substring(0, string.length() - 1) : string + "!");
+    }
+
+    private static Option<?> createOption(int index) {
+        String name = WORDS[index % WORDS.length] + " " + WORDS[(index / WORDS.length) % WORDS.length] + " " + index;
+        Text tooltip = Text.literal("Changes the " + name.toLowerCase() + " of the benchmark.");
+
+        return switch (index % 3) {
+            case 0 -> {
+                boolean[] value = {false};
+                yield Option.createBuilder(boolean.class)
+                        .name(Text.literal(name))
+                        .tooltip(tooltip)
+                        .binding(false, () -> value[0], newValue -> value[0] = newValue)
+                        .controller(TickBoxController::new)
+                        .build();
+            }
+            case 1 -> {
+                int[] value = {50};
+                yield Option.createBuilder(int.class)
+                        .name(Text.literal(name))
+                        .tooltip(tooltip)
+                        .binding(50, () -> value[0], newValue -> value[0] = newValue)
+                        .controller(opt -> new IntegerSliderController(opt, 0, 100, 1))
+                        .build();
+            }
+            default -> {
+                String[] value = {"Value " + index};
+                yield Option.createBuilder(String.class)
+                        .name(Text.literal(name))
+                        .tooltip(tooltip)
+                        .binding(value[0], () -> value[0], newValue -> value[0] = newValue)
+                        .controller(StringController::new)
+                        .build();
+            }
+        };
+    }
+}
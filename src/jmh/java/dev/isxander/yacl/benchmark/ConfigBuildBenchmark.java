@@ -0,0 +1,25 @@
+package dev.isxander.yacl.benchmark;
+
+import dev.isxander.yacl.api.YetAnotherConfigLib;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the option tree with the builders, including every option's controller.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ConfigBuildBenchmark {
+    @Param({"100", "1000", "10000", "50000"})
+    public int optionCount;
+
+    @Benchmark
+    public YetAnotherConfigLib build() {
+        return BenchmarkConfigs.create(optionCount);
+    }
+}
@@ -0,0 +1,78 @@
+package dev.isxander.yacl.benchmark;
+
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.font.TextHandler;
+import net.minecraft.client.font.TextRenderer;
+import net.minecraft.client.resource.language.LanguageManager;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Stands in for a running game so screens and widgets can be created without a window.
+ * <p>
+ * The {@link MinecraftClient} and {@link HeadlessTextRenderer} are allocated without running their constructors,
+ * the only things filled in are the text renderer, its measuring half and the language manager.
+ * Text is measured and its drawing stubbed, anything else that draws or needs another part of the client will fail.
+ */
+public final class Headless {
+    /** Every glyph is measured at this width, roughly the average of the default font. */
+    private static final float GLYPH_WIDTH = 6f;
+
+    private static MinecraftClient client;
+
+    private Headless() {
+    }
+
+    public static HeadlessTextRenderer textRenderer() {
+        return (HeadlessTextRenderer) client().textRenderer;
+    }
+
+    public static synchronized MinecraftClient client() {
+        if (client == null) {
+            try {
+                client = createClient();
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to create headless client", e);
+            }
+        }
+        return client;
+    }
+
+    private static MinecraftClient createClient() throws ReflectiveOperationException {
+        // Unsafe is only looked up reflectively, so compiling the benchmarks doesn't warn about internal API
+        Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+        Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
+        unsafeField.setAccessible(true);
+        Object unsafe = unsafeField.get(null);
+        Method allocateInstance = unsafeClass.getMethod("allocateInstance", Class.class);
+
+        TextRenderer textRenderer = (TextRenderer) allocateInstance.invoke(unsafe, HeadlessTextRenderer.class);
+        setFields(textRenderer, TextHandler.class, new TextHandler((codePoint, style) -> GLYPH_WIDTH));
+
+        MinecraftClient client = (MinecraftClient) allocateInstance.invoke(unsafe, MinecraftClient.class);
+        setFields(client, TextRenderer.class, textRenderer);
+        setFields(client, LanguageManager.class, new LanguageManager("en_us"));
+        setFields(null, MinecraftClient.class, client);
+        return client;
+    }
+
+    /**
+     * Sets every field of a type, looked up by type so it doesn't depend on mappings.
+     * Fields declared by superclasses of the instance are included.
+     *
+     * @param instance instance to set the fields of, or null for static fields
+     */
+    private static void setFields(Object instance, Class<?> type, Object value) throws IllegalAccessException {
+        Class<?> owner = instance != null ? instance.getClass() : type;
+        for (; owner != null; owner = instance != null ? owner.getSuperclass() : null) {
+            for (Field field : owner.getDeclaredFields()) {
+                if (field.getType() == type && Modifier.isStatic(field.getModifiers()) == (instance == null)) {
+                    field.setAccessible(true);
+                    field.set(instance, value);
+                }
+            }
+        }
+    }
+}
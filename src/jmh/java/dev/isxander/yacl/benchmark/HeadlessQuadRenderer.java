@@ -0,0 +1,36 @@
+package dev.isxander.yacl.benchmark;
+
+import dev.isxander.yacl.gui.QuadRenderer;
+import net.minecraft.client.util.math.MatrixStack;
+
+/**
+ * {@link QuadRenderer} that counts the quads instead of drawing them, so widgets can be rendered without OpenGL.
+ */
+public class HeadlessQuadRenderer extends QuadRenderer {
+    private long quads;
+
+    /**
+     * Gets the number of quads drawn so far, for benchmarks to return so the drawing isn't eliminated.
+     */
+    public long quads() {
+        return quads;
+    }
+
+    @Override
+    public void fill(MatrixStack matrices, int x1, int y1, int x2, int y2, int color) {
+        record(matrices);
+    }
+
+    @Override
+    public void drawButtonTexture(MatrixStack matrices, int x1, int y1, int x2, int y2, boolean hovered, boolean enabled) {
+        // the button texture is drawn in two halves
+        record(matrices);
+        record(matrices);
+    }
+
+    private void record(MatrixStack matrices) {
+        // a real draw would transform the vertices by the current matrix
+        matrices.peek().getPositionMatrix();
+        quads++;
+    }
+}
@@ -0,0 +1,62 @@
+package dev.isxander.yacl.benchmark;
+
+import net.minecraft.client.font.TextRenderer;
+import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.text.OrderedText;
+import net.minecraft.text.Text;
+
+/**
+ * {@link TextRenderer} that measures text but doesn't draw it, created by {@link Headless}.
+ * Drawing only counts the calls and reads the current matrix, so benchmarks can render text without a window.
+ */
+public class HeadlessTextRenderer extends TextRenderer {
+    private long drawCalls;
+
+    private HeadlessTextRenderer() {
+        super(null, false);
+    }
+
+    /**
+     * Gets the number of strings drawn so far, for benchmarks to return so the drawing isn't eliminated.
+     */
+    public long drawCalls() {
+        return drawCalls;
+    }
+
+    @Override
+    public int draw(MatrixStack matrices, String text, float x, float y, int color) {
+        return record(matrices, x, getWidth(text));
+    }
+
+    @Override
+    public int draw(MatrixStack matrices, Text text, float x, float y, int color) {
+        return record(matrices, x, getWidth(text));
+    }
+
+    @Override
+    public int draw(MatrixStack matrices, OrderedText text, float x, float y, int color) {
+        return record(matrices, x, getWidth(text));
+    }
+
+    @Override
+    public int drawWithShadow(MatrixStack matrices, String text, float x, float y, int color) {
+        return record(matrices, x, getWidth(text));
+    }
+
+    @Override
+    public int drawWithShadow(MatrixStack matrices, Text text, float x, float y, int color) {
+        return record(matrices, x, getWidth(text));
+    }
+
+    @Override
+    public int drawWithShadow(MatrixStack matrices, OrderedText text, float x, float y, int color) {
+        return record(matrices, x, getWidth(text));
+    }
+
+    private int record(MatrixStack matrices, float x, int width) {
+        // a real draw would transform the glyphs by the current matrix
+        matrices.peek().getPositionMatrix();
+        drawCalls++;
+        return (int) x + width;
+    }
+}
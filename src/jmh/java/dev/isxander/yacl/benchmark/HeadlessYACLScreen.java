@@ -0,0 +1,27 @@
+package dev.isxander.yacl.benchmark;
+
+import dev.isxander.yacl.api.YetAnotherConfigLib;
+import dev.isxander.yacl.gui.YACLScreen;
+
+/**
+ * {@link YACLScreen} that can be laid out with a {@link Headless} client.
+ */
+public class HeadlessYACLScreen extends YACLScreen {
+    public HeadlessYACLScreen(YetAnotherConfigLib config) {
+        super(config, null);
+    }
+
+    /**
+     * Lays out the screen like {@link net.minecraft.client.gui.screen.Screen#init(net.minecraft.client.MinecraftClient, int, int)},
+     * without the narration that needs the game options.
+     */
+    public void layout(int width, int height) {
+        this.client = Headless.client();
+        this.textRenderer = client.textRenderer;
+        this.width = width;
+        this.height = height;
+
+        clearChildren();
+        init();
+    }
+}
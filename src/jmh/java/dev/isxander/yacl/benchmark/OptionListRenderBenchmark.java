@@ -0,0 +1,86 @@
+package dev.isxander.yacl.benchmark;
+
+import dev.isxander.yacl.gui.OptionListWidget;
+import dev.isxander.yacl.gui.QuadRenderer;
+import net.minecraft.client.util.math.MatrixStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering a frame of the option list with every category shown, scrolled to a different row each time.
+ * <p>
+ * The option rows are rendered through {@link OptionListWidget.OptionEntry#render}, with the text going to a
+ * {@link HeadlessTextRenderer} and the quads to a {@link HeadlessQuadRenderer}, as vanilla draws them straight
+ * through OpenGL which can't run headless. Group separators are skipped for the same reason,
+ * their expand buttons are vanilla widgets.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class OptionListRenderBenchmark {
+    private static final int SCREEN_WIDTH = 1280, SCREEN_HEIGHT = 720;
+    private static final int FRAME_COUNT = 1024;
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int optionCount;
+
+    private OptionListWidget optionList;
+    private HeadlessTextRenderer textRenderer;
+    private HeadlessQuadRenderer quadRenderer;
+    private QuadRenderer previousQuadRenderer;
+    private MatrixStack matrices;
+    private int[] firstRows;
+    private int frameIdx;
+
+    @Setup
+    public void setup() {
+        HeadlessYACLScreen screen = new HeadlessYACLScreen(BenchmarkConfigs.create(optionCount));
+        screen.layout(SCREEN_WIDTH, SCREEN_HEIGHT);
+        screen.changeCategory(-1);
+        optionList = screen.optionList;
+        textRenderer = Headless.textRenderer();
+        matrices = new MatrixStack();
+
+        previousQuadRenderer = QuadRenderer.get();
+        quadRenderer = new HeadlessQuadRenderer();
+        QuadRenderer.set(quadRenderer);
+
+        Random random = new Random(0);
+        int rows = optionList.children().size();
+        firstRows = new int[FRAME_COUNT];
+        for (int i = 0; i < FRAME_COUNT; i++) {
+            firstRows[i] = random.nextInt(rows);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        QuadRenderer.set(previousQuadRenderer);
+    }
+
+    /**
+     * Renders the rows that fit on screen, starting at the next row of {@link #firstRows}.
+     */
+    @Benchmark
+    public long renderFrame() {
+        frameIdx = (frameIdx + 1) % FRAME_COUNT;
+
+        int x = optionList.getRowLeft();
+        int width = optionList.getRowWidth();
+        int y = 0;
+        for (int i = firstRows[frameIdx]; i < optionList.children().size() && y < SCREEN_HEIGHT; i++) {
+            OptionListWidget.Entry entry = optionList.children().get(i);
+            // the mouse is kept off the list so nothing is hovered
+            if (entry instanceof OptionListWidget.OptionEntry)
+                entry.render(matrices, i, y, x, width, entry.getItemHeight() - 4, -1, -1, false, 0);
+            y += entry.getItemHeight();
+        }
+
+        return textRenderer.drawCalls() + quadRenderer.quads();
+    }
+}
@@ -0,0 +1,55 @@
+package dev.isxander.yacl.benchmark;
+
+import dev.isxander.yacl.api.Option;
+import dev.isxander.yacl.api.YetAnotherConfigLib;
+import dev.isxander.yacl.api.utils.OptionUtils;
+import dev.isxander.yacl.impl.ChangedOptionsTracker;
+import dev.isxander.yacl.impl.YetAnotherConfigLibImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checking for pending changes, which the screen does every tick to update its buttons,
+ * with {@link #changedPercent} of the options edited.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PendingChangesBenchmark {
+    @Param({"100", "1000", "10000", "50000"})
+    public int optionCount;
+
+    @Param({"0", "1"})
+    public int changedPercent;
+
+    private ChangedOptionsTracker tracker;
+
+    @Setup
+    public void setup() {
+        YetAnotherConfigLib config = BenchmarkConfigs.create(optionCount);
+        tracker = ((YetAnotherConfigLibImpl) config).changedOptions();
+
+        List<Option<?>> options = new ArrayList<>();
+        OptionUtils.forEachOptions(config, options::add);
+        int changed = options.size() * changedPercent / 100;
+        for (int i = 0; i < changed; i++) {
+            BenchmarkConfigs.modify(options.get(i * options.size() / changed));
+        }
+    }
+
+    @Benchmark
+    public boolean hasChanges() {
+        return tracker.hasChanges();
+    }
+
+    @Benchmark
+    public List<Option<?>> getChangedOptions() {
+        return tracker.getChangedOptions();
+    }
+}
@@ -0,0 +1,66 @@
+package dev.isxander.yacl.benchmark;
+
+import dev.isxander.yacl.api.Option;
+import dev.isxander.yacl.api.YetAnotherConfigLib;
+import dev.isxander.yacl.api.utils.OptionUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Editing 1% of the options and pressing the save button:
+ * applying them, collecting the changes and calling the save function.
+ * <p>
+ * The edits are part of each invocation, a per-invocation setup would cost more than the save being measured.
+ * Each iteration edits a different batch of options.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SaveBenchmark {
+    @Param({"100", "1000", "10000", "50000"})
+    public int optionCount;
+
+    private HeadlessYACLScreen screen;
+    private List<Option<?>> options;
+    private List<Option<?>> editedOptions;
+    private int iteration;
+    private int savedChanges;
+
+    @Setup
+    public void setup() {
+        YetAnotherConfigLib config = BenchmarkConfigs.create(optionCount, changes -> savedChanges += changes.size());
+        screen = new HeadlessYACLScreen(config);
+        screen.layout(1280, 720);
+
+        options = new ArrayList<>();
+        OptionUtils.forEachOptions(config, options::add);
+    }
+
+    /**
+     * Picks the batch of options edited this iteration, spread over the whole config.
+     */
+    @Setup(Level.Iteration)
+    public void pickBatch() {
+        int edited = Math.max(1, options.size() / 100);
+        int offset = iteration++ % Math.max(1, options.size() / edited);
+        editedOptions = new ArrayList<>(edited);
+        for (int i = 0; i < edited; i++) {
+            editedOptions.add(options.get((i * options.size() / edited + offset) % options.size()));
+        }
+    }
+
+    @Benchmark
+    public int editAndSave() {
+        for (Option<?> option : editedOptions) {
+            BenchmarkConfigs.modify(option);
+        }
+        screen.finishedSaveButton.onPress();
+        return savedChanges;
+    }
+}
@@ -0,0 +1,66 @@
+package dev.isxander.yacl.benchmark;
+
+import dev.isxander.yacl.api.YetAnotherConfigLib;
+import dev.isxander.yacl.impl.OptionSearchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Searching options, both against the index alone and through the search field,
+ * which also filters and re-lays out the option list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SearchBenchmark {
+    /** Typed one character at a time, so later queries narrow down earlier ones. */
+    private static final String TYPED_QUERY = "render distance";
+    /** Unrelated queries, so every search starts from the trigram index. */
+    private static final String[] QUERIES = {"shadow", "volume 12", "particles smooth", "colour"};
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int optionCount;
+
+    private YetAnotherConfigLib config;
+    private OptionSearchIndex index;
+    private HeadlessYACLScreen screen;
+    private int queryIdx;
+
+    @Setup
+    public void setup() {
+        config = BenchmarkConfigs.create(optionCount);
+        index = new OptionSearchIndex(config);
+        screen = new HeadlessYACLScreen(config);
+        screen.layout(1280, 720);
+    }
+
+    @Benchmark
+    public OptionSearchIndex buildIndex() {
+        return new OptionSearchIndex(config);
+    }
+
+    @Benchmark
+    public void typeQuery(Blackhole blackhole) {
+        for (int i = 0; i <= TYPED_QUERY.length(); i++) {
+            blackhole.consume(index.search(TYPED_QUERY.substring(0, i)));
+        }
+    }
+
+    @Benchmark
+    public Object searchUnrelated() {
+        queryIdx = (queryIdx + 1) % QUERIES.length;
+        return index.search(QUERIES[queryIdx]);
+    }
+
+    @Benchmark
+    public Object filterOptionList() {
+        queryIdx = (queryIdx + 1) % QUERIES.length;
+        screen.searchFieldWidget.setText(QUERIES[queryIdx]);
+        return screen.searchFieldWidget.getResults();
+    }
+}
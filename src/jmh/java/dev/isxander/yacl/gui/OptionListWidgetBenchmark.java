@@ -0,0 +1,75 @@
+package dev.isxander.yacl.gui;
+
+import dev.isxander.yacl.benchmark.BenchmarkConfigs;
+import dev.isxander.yacl.benchmark.HeadlessYACLScreen;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rebuilding and querying the layout of the option list with every category shown, as when searching.
+ * In this package to reach the protected layout queries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class OptionListWidgetBenchmark {
+    private static final int SCREEN_WIDTH = 1280, SCREEN_HEIGHT = 720;
+    private static final int QUERY_COUNT = 1024;
+
+    @Param({"100", "1000", "10000", "50000"})
+    public int optionCount;
+
+    private OptionListWidget optionList;
+    private int[] rowIndices;
+    private double[] scrollAmounts;
+    private int[] mouseYs;
+    private int queryIdx;
+
+    @Setup
+    public void setup() {
+        HeadlessYACLScreen screen = new HeadlessYACLScreen(BenchmarkConfigs.create(optionCount));
+        screen.layout(SCREEN_WIDTH, SCREEN_HEIGHT);
+        screen.changeCategory(-1);
+        optionList = screen.optionList;
+
+        Random random = new Random(0);
+        int rows = optionList.children().size();
+        rowIndices = new int[QUERY_COUNT];
+        scrollAmounts = new double[QUERY_COUNT];
+        mouseYs = new int[QUERY_COUNT];
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            rowIndices[i] = random.nextInt(rows);
+            // clamped to the maximum scroll by the list
+            scrollAmounts[i] = random.nextDouble() * rows * 22;
+            mouseYs[i] = random.nextInt(SCREEN_HEIGHT);
+        }
+    }
+
+    @Benchmark
+    public void refreshOptions() {
+        optionList.refreshOptions();
+    }
+
+    @Benchmark
+    public void recacheViewableChildren() {
+        optionList.recacheViewableChildren();
+    }
+
+    @Benchmark
+    public int getRowTop() {
+        queryIdx = (queryIdx + 1) % QUERY_COUNT;
+        return optionList.getRowTop(rowIndices[queryIdx]);
+    }
+
+    @Benchmark
+    public Object getEntryAtPosition() {
+        queryIdx = (queryIdx + 1) % QUERY_COUNT;
+        optionList.setScrollAmount(scrollAmounts[queryIdx]);
+        return optionList.getEntryAtPosition(optionList.getRowLeft() + optionList.getRowWidth() / 2.0, mouseYs[queryIdx]);
+    }
+}
@@ -1,5 +1,6 @@
 package dev.isxander.yacl.api;
 
+import dev.isxander.yacl.impl.FieldBindingImpl;
 import dev.isxander.yacl.impl.GenericBindingImpl;
 import dev.isxander.yacl.mixin.SimpleOptionAccessor;
 import net.minecraft.client.option.SimpleOption;
@@ -19,6 +20,18 @@ public interface Binding<T> {
 
     T defaultValue();
 
+    /**
+     * A counter that changes whenever the bound value changes.
+     * Options keep a snapshot of {@link Binding#getValue()} and only call the getter again
+     * once this differs from when the snapshot was taken.
+     * <p>
+     * Bindings that cannot track changes can keep the default of always returning 0,
+     * the snapshot is still refreshed every time the GUI opens and after values are applied.
+     */
+    default long version() {
+        return 0;
+    }
+
     /**
      * Creates a generic binding.
      *
@@ -34,6 +47,48 @@ public interface Binding<T> {
         return new GenericBindingImpl<>(def, getter, setter);
     }
 
+    /**
+     * Creates a binding that reads and writes an instance field directly.
+     * The field is resolved once, and may be private.
+     * <p>
+     * For {@code int}, {@code long}, {@code float}, {@code double} and {@code boolean} fields,
+     * the binding is the matching primitive specialization, such as {@link OfInt}.
+     * <p>
+     * Values are never boxed, but every access is an indirect call through method handles held by the binding,
+     * which the JIT can't inline like a plain field access. Bindings generated with
+     * {@link dev.isxander.yacl.gen.YACLConfig} access their fields directly instead.
+     *
+     * @param instance object holding the field, it may be declared in a superclass
+     * @param fieldName name of the field
+     * @param def default value of the option, used to reset
+     * @throws IllegalArgumentException if the field doesn't exist, is static or final, or doesn't match the default's type
+     */
+    static <T> Binding<T> field(Object instance, String fieldName, T def) {
+        Validate.notNull(instance, "`instance` must not be null");
+        Validate.notNull(fieldName, "`fieldName` must not be null");
+        Validate.notNull(def, "`def` must not be null");
+
+        return FieldBindingImpl.create(instance.getClass(), instance, fieldName, def);
+    }
+
+    /**
+     * Creates a binding that reads and writes a static field directly.
+     * Accessing it costs the same as {@link Binding#field(Object, String, Object)}.
+     *
+     * @param owner class declaring the field
+     * @param fieldName name of the field
+     * @param def default value of the option, used to reset
+     * @throws IllegalArgumentException if the field doesn't exist, isn't static, is final, or doesn't match the default's type
+     * @see Binding#field(Object, String, Object)
+     */
+    static <T> Binding<T> staticField(Class<?> owner, String fieldName, T def) {
+        Validate.notNull(owner, "`owner` must not be null");
+        Validate.notNull(fieldName, "`fieldName` must not be null");
+        Validate.notNull(def, "`def` must not be null");
+
+        return FieldBindingImpl.create(owner, null, fieldName, def);
+    }
+
     /**
      * Creates a {@link Binding} for Minecraft's {@link SimpleOption}
      */
@@ -61,4 +116,134 @@ public interface Binding<T> {
                 changed -> {}
         );
     }
+
+    /**
+     * A binding to a {@code int} that can be read and written without boxing.
+     */
+    interface OfInt extends Binding<Integer> {
+        int getInt();
+
+        void setInt(int value);
+
+        int defaultInt();
+
+        @Override
+        default Integer getValue() {
+            return getInt();
+        }
+
+        @Override
+        default void setValue(Integer value) {
+            setInt(value);
+        }
+
+        @Override
+        default Integer defaultValue() {
+            return defaultInt();
+        }
+    }
+
+    /**
+     * A binding to a {@code long} that can be read and written without boxing.
+     */
+    interface OfLong extends Binding<Long> {
+        long getLong();
+
+        void setLong(long value);
+
+        long defaultLong();
+
+        @Override
+        default Long getValue() {
+            return getLong();
+        }
+
+        @Override
+        default void setValue(Long value) {
+            setLong(value);
+        }
+
+        @Override
+        default Long defaultValue() {
+            return defaultLong();
+        }
+    }
+
+    /**
+     * A binding to a {@code float} that can be read and written without boxing.
+     */
+    interface OfFloat extends Binding<Float> {
+        float getFloat();
+
+        void setFloat(float value);
+
+        float defaultFloat();
+
+        @Override
+        default Float getValue() {
+            return getFloat();
+        }
+
+        @Override
+        default void setValue(Float value) {
+            setFloat(value);
+        }
+
+        @Override
+        default Float defaultValue() {
+            return defaultFloat();
+        }
+    }
+
+    /**
+     * A binding to a {@code double} that can be read and written without boxing.
+     */
+    interface OfDouble extends Binding<Double> {
+        double getDouble();
+
+        void setDouble(double value);
+
+        double defaultDouble();
+
+        @Override
+        default Double getValue() {
+            return getDouble();
+        }
+
+        @Override
+        default void setValue(Double value) {
+            setDouble(value);
+        }
+
+        @Override
+        default Double defaultValue() {
+            return defaultDouble();
+        }
+    }
+
+    /**
+     * A binding to a {@code boolean} that can be read and written without boxing.
+     */
+    interface OfBoolean extends Binding<Boolean> {
+        boolean getBoolean();
+
+        void setBoolean(boolean value);
+
+        boolean defaultBoolean();
+
+        @Override
+        default Boolean getValue() {
+            return getBoolean();
+        }
+
+        @Override
+        default void setValue(Boolean value) {
+            setBoolean(value);
+        }
+
+        @Override
+        default Boolean defaultValue() {
+            return defaultBoolean();
+        }
+    }
 }
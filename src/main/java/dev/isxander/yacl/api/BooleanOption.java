@@ -0,0 +1,33 @@
+package dev.isxander.yacl.api;
+
+/**
+ * {@link Option} specialization that stores a {@code boolean} without boxing.
+ * Returned by {@link Option.Builder#build()} for {@code boolean} options.
+ */
+public interface BooleanOption extends Option<Boolean> {
+    /**
+     * Value in the GUI, without boxing.
+     *
+     * @see Option#pendingValue()
+     */
+    boolean pendingBoolean();
+
+    /**
+     * Sets the pending value without boxing.
+     *
+     * @see Option#requestSet(Object)
+     */
+    void requestSetBoolean(boolean value);
+
+    /**
+     * Adds a listener for when the pending value changes, invoked without boxing.
+     *
+     * @see Option#addListener(java.util.function.BiConsumer)
+     */
+    void addBooleanListener(Listener listener);
+
+    @FunctionalInterface
+    interface Listener {
+        void onChange(BooleanOption option, boolean pendingValue);
+    }
+}
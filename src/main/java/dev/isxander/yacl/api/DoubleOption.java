@@ -0,0 +1,33 @@
+package dev.isxander.yacl.api;
+
+/**
+ * {@link Option} specialization that stores a {@code double} without boxing.
+ * Returned by {@link Option.Builder#build()} for {@code double} options.
+ */
+public interface DoubleOption extends Option<Double> {
+    /**
+     * Value in the GUI, without boxing.
+     *
+     * @see Option#pendingValue()
+     */
+    double pendingDouble();
+
+    /**
+     * Sets the pending value without boxing.
+     *
+     * @see Option#requestSet(Object)
+     */
+    void requestSetDouble(double value);
+
+    /**
+     * Adds a listener for when the pending value changes, invoked without boxing.
+     *
+     * @see Option#addListener(java.util.function.BiConsumer)
+     */
+    void addDoubleListener(Listener listener);
+
+    @FunctionalInterface
+    interface Listener {
+        void onChange(DoubleOption option, double pendingValue);
+    }
+}
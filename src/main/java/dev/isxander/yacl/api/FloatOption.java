@@ -0,0 +1,33 @@
+package dev.isxander.yacl.api;
+
+/**
+ * {@link Option} specialization that stores a {@code float} without boxing.
+ * Returned by {@link Option.Builder#build()} for {@code float} options.
+ */
+public interface FloatOption extends Option<Float> {
+    /**
+     * Value in the GUI, without boxing.
+     *
+     * @see Option#pendingValue()
+     */
+    float pendingFloat();
+
+    /**
+     * Sets the pending value without boxing.
+     *
+     * @see Option#requestSet(Object)
+     */
+    void requestSetFloat(float value);
+
+    /**
+     * Adds a listener for when the pending value changes, invoked without boxing.
+     *
+     * @see Option#addListener(java.util.function.BiConsumer)
+     */
+    void addFloatListener(Listener listener);
+
+    @FunctionalInterface
+    interface Listener {
+        void onChange(FloatOption option, float pendingValue);
+    }
+}
@@ -0,0 +1,33 @@
+package dev.isxander.yacl.api;
+
+/**
+ * {@link Option} specialization that stores an {@code int} without boxing.
+ * Returned by {@link Option.Builder#build()} for {@code int} options.
+ */
+public interface IntOption extends Option<Integer> {
+    /**
+     * Value in the GUI, without boxing.
+     *
+     * @see Option#pendingValue()
+     */
+    int pendingInt();
+
+    /**
+     * Sets the pending value without boxing.
+     *
+     * @see Option#requestSet(Object)
+     */
+    void requestSetInt(int value);
+
+    /**
+     * Adds a listener for when the pending value changes, invoked without boxing.
+     *
+     * @see Option#addListener(java.util.function.BiConsumer)
+     */
+    void addIntListener(Listener listener);
+
+    @FunctionalInterface
+    interface Listener {
+        void onChange(IntOption option, int pendingValue);
+    }
+}
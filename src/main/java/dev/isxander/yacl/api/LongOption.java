@@ -0,0 +1,33 @@
+package dev.isxander.yacl.api;
+
+/**
+ * {@link Option} specialization that stores a {@code long} without boxing.
+ * Returned by {@link Option.Builder#build()} for {@code long} options.
+ */
+public interface LongOption extends Option<Long> {
+    /**
+     * Value in the GUI, without boxing.
+     *
+     * @see Option#pendingValue()
+     */
+    long pendingLong();
+
+    /**
+     * Sets the pending value without boxing.
+     *
+     * @see Option#requestSet(Object)
+     */
+    void requestSetLong(long value);
+
+    /**
+     * Adds a listener for when the pending value changes, invoked without boxing.
+     *
+     * @see Option#addListener(java.util.function.BiConsumer)
+     */
+    void addLongListener(Listener listener);
+
+    @FunctionalInterface
+    interface Listener {
+        void onChange(LongOption option, long pendingValue);
+    }
+}
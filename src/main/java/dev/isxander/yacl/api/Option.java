@@ -132,6 +132,8 @@ public interface Option<T> {
 
         private boolean instant = false;
 
+        private int instantBatchTicks = -1;
+
         private final Set<OptionFlag> flags = new HashSet<>();
 
         private final Class<T> typeClass;
@@ -264,10 +266,28 @@ public interface Option<T> {
          * Instantly invokes the binder's setter when modified in the GUI.
          * Prevents the user from undoing the change
          * <p>
-         * Does not support {@link Option#flags()}!
+         * Does not support {@link Option#flags()}, see {@link #batchedInstant(int)} for that.
          */
         public Builder<T> instant(boolean instant) {
             this.instant = instant;
+            if (instant) this.instantBatchTicks = -1;
+            return this;
+        }
+
+        /**
+         * Invokes the binder's setter automatically when modified in the GUI,
+         * once no batched option has been modified for {@code quietTicks} ticks.
+         * All batched changes are applied together with a single save,
+         * and their flags are run once.
+         * Prevents the user from undoing the change.
+         *
+         * @param quietTicks ticks without changes to wait before applying, 0 applies at the end of the tick
+         */
+        public Builder<T> batchedInstant(int quietTicks) {
+            Validate.isTrue(quietTicks >= 0, "`quietTicks` must not be negative");
+
+            this.instantBatchTicks = quietTicks;
+            this.instant = false;
             return this;
         }
 
@@ -306,7 +326,7 @@ public interface Option<T> {
         public Option<T> build() {
             Validate.notNull(controlGetter, "`control` must not be null when building `Option`");
             Validate.notNull(binding, "`binding` must not be null when building `Option`");
-            Validate.isTrue(!instant || flags.isEmpty(), "instant application does not support option flags");
+            Validate.isTrue(!instant || flags.isEmpty(), "instant application does not support option flags, use batched instant application instead");
 
             Function<T, Text> concatenatedTooltipGetter = value -> {
                 MutableText concatenatedTooltip = Text.empty();
@@ -325,7 +345,7 @@ public interface Option<T> {
                 listeners.add((opt, pendingValue) -> opt.applyValue());
             }
 
-            return new OptionImpl<>(name, concatenatedTooltipGetter, controlGetter, binding, available, ImmutableSet.copyOf(flags), typeClass, listeners);
+            return OptionImpl.create(name, concatenatedTooltipGetter, controlGetter, binding, available, ImmutableSet.copyOf(flags), typeClass, listeners, instantBatchTicks);
         }
     }
 }
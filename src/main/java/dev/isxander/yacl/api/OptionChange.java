@@ -0,0 +1,13 @@
+package dev.isxander.yacl.api;
+
+/**
+ * A value that was changed by the user and applied to its {@link Binding}.
+ *
+ * @param option the option that was applied
+ * @param oldValue bound value before applying
+ * @param newValue value that was applied
+ * @param <T> type of the option's value
+ * @see YetAnotherConfigLib#saveChangesFunction()
+ */
+public record OptionChange<T>(Option<T> option, T oldValue, T newValue) {
+}
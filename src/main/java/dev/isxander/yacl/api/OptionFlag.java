@@ -7,7 +7,8 @@ import java.util.function.Consumer;
 
 /**
  * Code that is executed upon certain options being applied.
- * Each flag is executed only once per save, no matter the amount of options with the flag.
+ * Flags are run through the {@link OptionFlagScheduler}, so each flag is executed only once,
+ * no matter the amount of options or saves that requested it.
  */
 @FunctionalInterface
 public interface OptionFlag extends Consumer<MinecraftClient> {
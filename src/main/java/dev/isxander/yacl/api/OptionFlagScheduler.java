@@ -0,0 +1,59 @@
+package dev.isxander.yacl.api;
+
+import dev.isxander.yacl.impl.OptionFlagSchedulerImpl;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Queues {@link OptionFlag}s so they run once at a safe point instead of after every save.
+ * <p>
+ * Duplicate flags are merged, and flags covered by another pending flag are not run at all:
+ * {@link OptionFlag#ASSET_RELOAD} subsumes {@link OptionFlag#RELOAD_CHUNKS},
+ * which subsumes {@link OptionFlag#WORLD_RENDER_UPDATE}.
+ * {@link OptionFlag#GAME_RESTART} runs last, once every other pending flag has finished.
+ * <p>
+ * While a YACL screen is open, flags wait until it closes.
+ * Otherwise they run on the client thread's next task pass.
+ */
+public interface OptionFlagScheduler {
+    /**
+     * Queues flags to run at the next safe point.
+     *
+     * @return future completed on the client thread once every flag,
+     *         or a flag that subsumes it, has finished
+     */
+    CompletableFuture<Void> schedule(Collection<OptionFlag> flags);
+
+    /**
+     * Queues flags to run at the next safe point.
+     *
+     * @see #schedule(Collection)
+     */
+    default CompletableFuture<Void> schedule(OptionFlag... flags) {
+        return schedule(Arrays.asList(flags));
+    }
+
+    /**
+     * Gets a future that completes once every flag queued so far has finished.
+     */
+    CompletableFuture<Void> whenIdle();
+
+    /**
+     * Runs every pending flag now. Must be called on the client thread.
+     */
+    void runPending();
+
+    /**
+     * Runs the given flags now, even while a YACL screen is open, such as for live previews.
+     * Any other pending flag stays queued. Must be called on the client thread.
+     *
+     * @return future completed on the client thread once every flag has finished
+     */
+    CompletableFuture<Void> runNow(Collection<OptionFlag> flags);
+
+    static OptionFlagScheduler getInstance() {
+        return OptionFlagSchedulerImpl.INSTANCE;
+    }
+}
@@ -2,6 +2,7 @@ package dev.isxander.yacl.api;
 
 import com.google.common.collect.ImmutableList;
 import dev.isxander.yacl.gui.YACLScreen;
+import dev.isxander.yacl.impl.LazyConfigCategoryImpl;
 import dev.isxander.yacl.impl.YetAnotherConfigLibImpl;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.text.Text;
@@ -13,6 +14,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Main class of the mod.
@@ -31,9 +33,31 @@ public interface YetAnotherConfigLib {
 
     /**
      * Ran when changes are saved. Can be used to save config to a file etc.
+     * <p>
+     * If the save function was defined with {@link Builder#saveChanges(Consumer)},
+     * this runs it with an empty change set.
      */
     Runnable saveFunction();
 
+    /**
+     * Ran when changes are saved with every option that was applied,
+     * including its value before and after.
+     * Can be used to only persist what changed.
+     * <p>
+     * Defaults to running {@link YetAnotherConfigLib#saveFunction()}.
+     */
+    default Consumer<ImmutableList<OptionChange<?>>> saveChangesFunction() {
+        return changes -> saveFunction().run();
+    }
+
+    /**
+     * If true, {@link YetAnotherConfigLib#saveFunction()} is run on a background thread
+     * instead of blocking the GUI.
+     */
+    default boolean asyncSave() {
+        return false;
+    }
+
     /**
      * Ran every time the YACL screen initialises. Can be paired with FAPI to add custom widgets.
      */
@@ -56,7 +80,8 @@ public interface YetAnotherConfigLib {
     class Builder {
         private Text title;
         private final List<ConfigCategory> categories = new ArrayList<>();
-        private Runnable saveFunction = () -> {};
+        private Consumer<ImmutableList<OptionChange<?>>> saveFunction = changes -> {};
+        private boolean asyncSave = false;
         private Consumer<YACLScreen> initConsumer = screen -> {};
 
         private Builder() {
@@ -88,6 +113,23 @@ public interface YetAnotherConfigLib {
             return this;
         }
 
+        /**
+         * Adds a category that is only built once the user views it, or over the following ticks once they search.
+         * Useful for categories with many options, as every option is created when its category is built.
+         * The supplier is run on the client thread.
+         *
+         * @param name name of the category, shown before it is built
+         * @param category builds the category, its name is ignored in favour of {@code name}
+         * @see YetAnotherConfigLib#categories()
+         */
+        public Builder category(@NotNull Text name, @NotNull Supplier<ConfigCategory> category) {
+            Validate.notNull(name, "`name` cannot be null");
+            Validate.notNull(category, "`category` cannot be null");
+
+            this.categories.add(new LazyConfigCategoryImpl(name, category));
+            return this;
+        }
+
         /**
          * Adds multiple categories at once.
          * To create a category you need to use {@link ConfigCategory#createBuilder()}
@@ -109,10 +151,38 @@ public interface YetAnotherConfigLib {
         public Builder save(@NotNull Runnable saveFunction) {
             Validate.notNull(saveFunction, "`saveFunction` cannot be null");
 
+            this.saveFunction = changes -> saveFunction.run();
+            return this;
+        }
+
+        /**
+         * Used to define a save function for when user clicks the Save Changes button,
+         * that receives every option that was applied with its old and new value.
+         * Replaces any function set with {@link Builder#save(Runnable)}.
+         *
+         * @see YetAnotherConfigLib#saveChangesFunction()
+         */
+        public Builder saveChanges(@NotNull Consumer<ImmutableList<OptionChange<?>>> saveFunction) {
+            Validate.notNull(saveFunction, "`saveFunction` cannot be null");
+
             this.saveFunction = saveFunction;
             return this;
         }
 
+        /**
+         * Runs the save function on a background thread so writing the config does not freeze the game.
+         * Saves requested while one is already waiting to run are merged into it.
+         * Option flags are executed once the save has finished.
+         * <p>
+         * The save function must be safe to run off the render thread.
+         *
+         * @see YetAnotherConfigLib#asyncSave()
+         */
+        public Builder asyncSave(boolean asyncSave) {
+            this.asyncSave = asyncSave;
+            return this;
+        }
+
         /**
          * Defines a consumer that is accepted every time the YACL screen initialises
          *
@@ -130,7 +200,7 @@ public interface YetAnotherConfigLib {
             Validate.notEmpty(categories, "`categories` must not be empty to build `YetAnotherConfigLib`");
             Validate.isTrue(!categories.stream().allMatch(category -> category instanceof PlaceholderCategory), "At least one regular category is required to build `YetAnotherConfigLib`");
 
-            return new YetAnotherConfigLibImpl(title, ImmutableList.copyOf(categories), saveFunction, initConsumer);
+            return new YetAnotherConfigLibImpl(title, ImmutableList.copyOf(categories), saveFunction, asyncSave, initConsumer);
         }
     }
 }
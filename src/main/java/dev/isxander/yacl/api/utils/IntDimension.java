@@ -0,0 +1,48 @@
+package dev.isxander.yacl.api.utils;
+
+import dev.isxander.yacl.impl.utils.DimensionIntegerImpl;
+
+/**
+ * A {@link Dimension} of integers with primitive accessors,
+ * so widgets can lay themselves out every frame without boxing.
+ * The {@link Dimension} methods remain as a boxed view of the same values.
+ */
+public interface IntDimension extends Dimension<Integer> {
+    int getX();
+    int getY();
+
+    int getWidth();
+    int getHeight();
+
+    int getXLimit();
+    int getYLimit();
+
+    int getCenterX();
+    int getCenterY();
+
+    boolean isPointInside(int x, int y);
+
+    @Override
+    IntDimension clone();
+
+    IntDimension setX(int x);
+    IntDimension setY(int y);
+    IntDimension setWidth(int width);
+    IntDimension setHeight(int height);
+
+    IntDimension move(int x, int y);
+    IntDimension expand(int width, int height);
+
+    static IntDimension of(int x, int y, int width, int height) {
+        return new DimensionIntegerImpl(x, y, width, height);
+    }
+
+    /**
+     * Gets the dimension as an {@link IntDimension}, copying it if it isn't one.
+     */
+    static IntDimension of(Dimension<Integer> dim) {
+        if (dim instanceof IntDimension intDim)
+            return intDim;
+        return of(dim.x(), dim.y(), dim.width(), dim.height());
+    }
+}
@@ -4,6 +4,7 @@ import dev.isxander.yacl.api.ConfigCategory;
 import dev.isxander.yacl.api.Option;
 import dev.isxander.yacl.api.OptionGroup;
 import dev.isxander.yacl.api.YetAnotherConfigLib;
+import dev.isxander.yacl.impl.LazyConfigCategoryImpl;
 
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -34,4 +35,23 @@ public class OptionUtils {
             return false;
         });
     }
+
+    /**
+     * Consumes all options of categories that have been built,
+     * skipping lazy categories that haven't been viewed or searched yet.
+     *
+     * @see YetAnotherConfigLib.Builder#category(net.minecraft.text.Text, java.util.function.Supplier)
+     */
+    public static void forEachBuiltOptions(YetAnotherConfigLib yacl, Consumer<Option<?>> consumer) {
+        for (ConfigCategory category : yacl.categories()) {
+            if (!LazyConfigCategoryImpl.isBuilt(category))
+                continue;
+
+            for (OptionGroup group : category.groups()) {
+                for (Option<?> option : group.options()) {
+                    consumer.accept(option);
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,272 @@
+package dev.isxander.yacl.config;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.mojang.logging.LogUtils;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Stores config values in an indexed binary file, for configs with too many entries to parse at startup.
+ * <p>
+ * The file starts with a fixed-layout index of every key, sorted by hash, followed by the keys and values.
+ * {@link #load()} only reads the file into memory and checks its header. Each entry looks up its key in the index
+ * and decodes its value the first time it is read, so entries that are never viewed are never parsed.
+ * Values are encoded with the same {@link ConfigCodec}s as {@link JsonConfigHolder}.
+ * <p>
+ * Layout, all integers big-endian:
+ * <pre>
+ * header   int magic ("YACL"), int format version, int entry count
+ * index    per entry: int key hash, int key offset, int key length, int value offset, int value length
+ * data     UTF-8 keys and codec-encoded values, at the offsets given by the index
+ * </pre>
+ *
+ * <pre>{@code
+ * BinaryConfigHolder config = new BinaryConfigHolder(FabricLoader.getInstance().getConfigDir().resolve("mymod.bin"));
+ * for (Block block : Registry.BLOCK) {
+ *     ConfigEntry<Boolean> entry = config.entry(Registry.BLOCK.getId(block).toString(), boolean.class, true);
+ *     ...
+ * }
+ * config.load();
+ * }</pre>
+ */
+public class BinaryConfigHolder {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final int MAGIC = 0x5941434C;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 12;
+    private static final int INDEX_RECORD_SIZE = 20;
+
+    private final Path path;
+    private final Map<String, ConfigEntry<?>> entries = new LinkedHashMap<>();
+
+    public BinaryConfigHolder(Path path) {
+        Validate.notNull(path, "`path` must not be null");
+
+        this.path = path;
+    }
+
+    /**
+     * Adds an entry using the codec registered in {@link ConfigCodecs} for its type.
+     *
+     * @param key key of the value in the file
+     * @param typeClass class of the value, the same as passed to {@link dev.isxander.yacl.api.Option#createBuilder(Class)}
+     * @param defaultValue value used if the file does not contain the key, and to reset the option
+     */
+    public <T> ConfigEntry<T> entry(String key, Class<T> typeClass, T defaultValue) {
+        return entry(key, typeClass, ConfigCodecs.get(typeClass), defaultValue);
+    }
+
+    /**
+     * Adds an entry with a custom codec.
+     *
+     * @param key key of the value in the file
+     * @param typeClass class of the value, the same as passed to {@link dev.isxander.yacl.api.Option#createBuilder(Class)}
+     * @param codec writes and reads the value
+     * @param defaultValue value used if the file does not contain the key, and to reset the option
+     */
+    public <T> ConfigEntry<T> entry(String key, Class<T> typeClass, ConfigCodec<T> codec, T defaultValue) {
+        Validate.notNull(key, "`key` must not be null");
+        Validate.notNull(typeClass, "`typeClass` must not be null");
+        Validate.notNull(codec, "`codec` must not be null");
+        Validate.notNull(defaultValue, "`defaultValue` must not be null");
+        Validate.isTrue(!entries.containsKey(key), "duplicate config key `%s`", key);
+
+        ConfigEntry<T> entry = new ConfigEntry<>(key, typeClass, codec, defaultValue, changed -> {});
+        entries.put(key, entry);
+        return entry;
+    }
+
+    /**
+     * Gets every entry, in the order they were added.
+     */
+    public Collection<ConfigEntry<?>> entries() {
+        return Collections.unmodifiableCollection(entries.values());
+    }
+
+    /**
+     * Path of the config file.
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Reads the config file so entries decode their values from it when first needed.
+     * Does nothing if the file doesn't exist yet.
+     *
+     * @throws UncheckedIOException if the file couldn't be read or is not a valid config
+     */
+    public synchronized void load() {
+        if (!Files.exists(path))
+            return;
+
+        ByteBuffer buffer;
+        try {
+            buffer = ConfigFiles.readFully(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load config " + path, e);
+        }
+
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC)
+            throw new UncheckedIOException(new IOException("Not a binary config file: " + path));
+        if (buffer.getInt(4) != FORMAT_VERSION)
+            throw new UncheckedIOException(new IOException("Unsupported binary config version " + buffer.getInt(4) + " in " + path));
+
+        int count = buffer.getInt(8);
+        if (count < 0 || HEADER_SIZE + (long) count * INDEX_RECORD_SIZE > buffer.capacity())
+            throw new UncheckedIOException(new IOException("Truncated binary config index in " + path));
+
+        for (ConfigEntry<?> entry : entries.values()) {
+            loadLazily(entry, buffer, count);
+        }
+    }
+
+    /**
+     * Writes every entry to the config file.
+     * <p>
+     * Entries that were never read are decoded from the previous file first.
+     * The file is written to a temporary file which is synced to disk
+     * and then renamed over the config file.
+     *
+     * @throws UncheckedIOException if the file couldn't be written
+     */
+    public synchronized void save() {
+        try {
+            int count = entries.size();
+            byte[][] keys = new byte[count][];
+            byte[][] values = new byte[count][];
+            Integer[] order = new Integer[count];
+
+            int i = 0;
+            int dataSize = 0;
+            for (ConfigEntry<?> entry : entries.values()) {
+                keys[i] = entry.key().getBytes(StandardCharsets.UTF_8);
+                values[i] = encode(entry);
+                order[i] = i;
+                dataSize += keys[i].length + values[i].length;
+                i++;
+            }
+
+            int[] hashes = new int[count];
+            i = 0;
+            for (String key : entries.keySet()) {
+                hashes[i++] = key.hashCode();
+            }
+            Arrays.sort(order, Comparator.comparingInt(idx -> hashes[idx]));
+
+            int indexEnd = HEADER_SIZE + count * INDEX_RECORD_SIZE;
+            ByteBuffer buffer = ByteBuffer.allocate(indexEnd + dataSize);
+            buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(count);
+
+            int dataOffset = indexEnd;
+            for (int idx : order) {
+                buffer.putInt(hashes[idx]);
+                buffer.putInt(dataOffset).putInt(keys[idx].length);
+                dataOffset += keys[idx].length;
+                buffer.putInt(dataOffset).putInt(values[idx].length);
+                dataOffset += values[idx].length;
+            }
+            for (int idx : order) {
+                buffer.put(keys[idx]).put(values[idx]);
+            }
+            buffer.flip();
+
+            ConfigFiles.writeAtomically(path, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to save config " + path, e);
+        }
+    }
+
+    private <T> void loadLazily(ConfigEntry<T> entry, ByteBuffer buffer, int count) {
+        entry.loadLazily(() -> {
+            int record = findRecord(buffer, count, entry.key());
+            if (record < 0)
+                return null;
+
+            int valueOffset = buffer.getInt(record + 12);
+            int valueLength = buffer.getInt(record + 16);
+            if (valueOffset < 0 || valueLength < 0 || (long) valueOffset + valueLength > buffer.capacity()) {
+                LOGGER.warn("Corrupt index record for config key `{}` in {}, keeping the current value", entry.key(), path);
+                return null;
+            }
+
+            byte[] value = new byte[valueLength];
+            buffer.get(valueOffset, value);
+            return decode(entry, new String(value, StandardCharsets.UTF_8));
+        });
+    }
+
+    /**
+     * Finds the position of the index record for the key, or -1 if the file doesn't contain it.
+     */
+    private static int findRecord(ByteBuffer buffer, int count, String key) {
+        int hash = key.hashCode();
+
+        // lower bound of the hash, then check every record sharing it
+        int low = 0, high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (buffer.getInt(HEADER_SIZE + mid * INDEX_RECORD_SIZE) < hash)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        for (int i = low; i < count; i++) {
+            int record = HEADER_SIZE + i * INDEX_RECORD_SIZE;
+            if (buffer.getInt(record) != hash)
+                break;
+
+            int keyOffset = buffer.getInt(record + 4);
+            int keyLength = buffer.getInt(record + 8);
+            if (keyLength != keyBytes.length || keyOffset < 0 || (long) keyOffset + keyLength > buffer.capacity())
+                continue;
+
+            byte[] candidate = new byte[keyLength];
+            buffer.get(keyOffset, candidate);
+            if (Arrays.equals(candidate, keyBytes))
+                return record;
+        }
+        return -1;
+    }
+
+    private static <T> byte[] encode(ConfigEntry<T> entry) throws IOException {
+        StringWriter out = new StringWriter();
+        JsonWriter writer = new JsonWriter(out);
+        // values are stored on their own, not inside an object
+        writer.setLenient(true);
+        entry.codec().write(writer, entry.getValue());
+        writer.flush();
+        return out.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private <T> T decode(ConfigEntry<T> entry, String value) {
+        JsonReader reader = new JsonReader(new StringReader(value));
+        reader.setLenient(true);
+        try {
+            return entry.codec().read(reader);
+        } catch (IOException | IllegalStateException | NumberFormatException | JsonParseException e) {
+            LOGGER.warn("Invalid value for config key `{}` in {}, keeping the current value", entry.key(), path, e);
+            return null;
+        }
+    }
+}
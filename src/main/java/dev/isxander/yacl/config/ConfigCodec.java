@@ -0,0 +1,28 @@
+package dev.isxander.yacl.config;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+/**
+ * Reads and writes a single value of a {@link ConfigEntry} straight to and from a JSON stream.
+ *
+ * @param <T> type of the value
+ * @see ConfigCodecs
+ */
+public interface ConfigCodec<T> {
+    /**
+     * Writes the value at the current position of the writer.
+     */
+    void write(JsonWriter writer, T value) throws IOException;
+
+    /**
+     * Reads a value from the current position of the reader.
+     *
+     * @throws JsonParseException if the value is well-formed but not valid for the type,
+     *                            the entry then keeps its current value
+     */
+    T read(JsonReader reader) throws IOException;
+}
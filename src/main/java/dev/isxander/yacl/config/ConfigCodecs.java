@@ -0,0 +1,129 @@
+package dev.isxander.yacl.config;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import org.apache.commons.lang3.Validate;
+
+import java.awt.*;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registry of {@link ConfigCodec}s, keyed on the same type class given to {@link dev.isxander.yacl.api.Option#createBuilder(Class)}.
+ * <p>
+ * Codecs for primitives, their wrappers, {@link String}, {@link Color} and all enums are provided.
+ */
+public final class ConfigCodecs {
+    public static final ConfigCodec<Boolean> BOOLEAN = new ConfigCodec<>() {
+        @Override public void write(JsonWriter writer, Boolean value) throws IOException { writer.value((boolean) value); }
+        @Override public Boolean read(JsonReader reader) throws IOException { return reader.nextBoolean(); }
+    };
+
+    public static final ConfigCodec<Integer> INT = new ConfigCodec<>() {
+        @Override public void write(JsonWriter writer, Integer value) throws IOException { writer.value((long) value); }
+        @Override public Integer read(JsonReader reader) throws IOException { return reader.nextInt(); }
+    };
+
+    public static final ConfigCodec<Long> LONG = new ConfigCodec<>() {
+        @Override public void write(JsonWriter writer, Long value) throws IOException { writer.value((long) value); }
+        @Override public Long read(JsonReader reader) throws IOException { return reader.nextLong(); }
+    };
+
+    public static final ConfigCodec<Float> FLOAT = new ConfigCodec<>() {
+        @Override public void write(JsonWriter writer, Float value) throws IOException { writer.value((Number) value); }
+        @Override public Float read(JsonReader reader) throws IOException { return (float) reader.nextDouble(); }
+    };
+
+    public static final ConfigCodec<Double> DOUBLE = new ConfigCodec<>() {
+        @Override public void write(JsonWriter writer, Double value) throws IOException { writer.value((double) value); }
+        @Override public Double read(JsonReader reader) throws IOException { return reader.nextDouble(); }
+    };
+
+    public static final ConfigCodec<String> STRING = new ConfigCodec<>() {
+        @Override public void write(JsonWriter writer, String value) throws IOException { writer.value(value); }
+        @Override public String read(JsonReader reader) throws IOException { return reader.nextString(); }
+    };
+
+    /**
+     * Writes colors as a single ARGB integer.
+     */
+    public static final ConfigCodec<Color> COLOR = new ConfigCodec<>() {
+        @Override public void write(JsonWriter writer, Color value) throws IOException { writer.value(value.getRGB()); }
+        @Override public Color read(JsonReader reader) throws IOException { return new Color(reader.nextInt(), true); }
+    };
+
+    private static final Map<Class<?>, ConfigCodec<?>> CODECS = new HashMap<>();
+
+    static {
+        register(boolean.class, BOOLEAN);
+        register(Boolean.class, BOOLEAN);
+        register(int.class, INT);
+        register(Integer.class, INT);
+        register(long.class, LONG);
+        register(Long.class, LONG);
+        register(float.class, FLOAT);
+        register(Float.class, FLOAT);
+        register(double.class, DOUBLE);
+        register(Double.class, DOUBLE);
+        register(String.class, STRING);
+        register(Color.class, COLOR);
+    }
+
+    private ConfigCodecs() {
+    }
+
+    /**
+     * Registers a codec to be used for every entry of the given type.
+     */
+    public static synchronized <T> void register(Class<T> typeClass, ConfigCodec<T> codec) {
+        Validate.notNull(typeClass, "`typeClass` must not be null");
+        Validate.notNull(codec, "`codec` must not be null");
+
+        CODECS.put(typeClass, codec);
+    }
+
+    /**
+     * Gets the codec for a type, creating one for enums that don't have a codec registered.
+     *
+     * @throws IllegalArgumentException if no codec is registered for the type
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static synchronized <T> ConfigCodec<T> get(Class<T> typeClass) {
+        Validate.notNull(typeClass, "`typeClass` must not be null");
+
+        ConfigCodec<T> codec = (ConfigCodec<T>) CODECS.get(typeClass);
+        if (codec == null && typeClass.isEnum()) {
+            codec = (ConfigCodec<T>) enumCodec((Class) typeClass);
+            CODECS.put(typeClass, codec);
+        }
+
+        Validate.isTrue(codec != null, "no codec registered for `%s`", typeClass.getName());
+        return codec;
+    }
+
+    /**
+     * Creates a codec that stores enum constants by their name.
+     * Names that are no longer constants of the enum are invalid values.
+     */
+    public static <T extends Enum<T>> ConfigCodec<T> enumCodec(Class<T> enumClass) {
+        T[] constants = enumClass.getEnumConstants();
+        return new ConfigCodec<>() {
+            @Override
+            public void write(JsonWriter writer, T value) throws IOException {
+                writer.value(value.name());
+            }
+
+            @Override
+            public T read(JsonReader reader) throws IOException {
+                String name = reader.nextString();
+                for (T constant : constants) {
+                    if (constant.name().equals(name))
+                        return constant;
+                }
+                throw new JsonParseException("Unknown " + enumClass.getSimpleName() + " constant `" + name + "` at " + reader.getPath());
+            }
+        };
+    }
+}
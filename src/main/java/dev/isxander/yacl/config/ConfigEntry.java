@@ -0,0 +1,114 @@
+package dev.isxander.yacl.config;
+
+import dev.isxander.yacl.api.Binding;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A single value stored in a {@link JsonConfigHolder} or {@link BinaryConfigHolder}.
+ * <p>
+ * Entries are bindings themselves, so options can bind to them directly
+ * with {@link dev.isxander.yacl.api.Option.Builder#binding(Binding)}.
+ * Setting the value outside of {@link JsonConfigHolder#save()}, such as from an instant option,
+ * records it in the holder's journal.
+ * <p>
+ * Entries loaded from a {@link BinaryConfigHolder} are only decoded from the file when first read.
+ *
+ * @param <T> type of the value
+ */
+public final class ConfigEntry<T> implements Binding<T> {
+    private final String key;
+    private final Class<T> typeClass;
+    private final ConfigCodec<T> codec;
+    private final T defaultValue;
+
+    private final Consumer<ConfigEntry<?>> changeListener;
+
+    private volatile T value;
+    private volatile Supplier<T> lazyValue;
+    private volatile long version;
+
+    ConfigEntry(String key, Class<T> typeClass, ConfigCodec<T> codec, T defaultValue, Consumer<ConfigEntry<?>> changeListener) {
+        this.key = key;
+        this.typeClass = typeClass;
+        this.codec = codec;
+        this.defaultValue = defaultValue;
+        this.changeListener = changeListener;
+        this.value = defaultValue;
+    }
+
+    /**
+     * Key of the entry in the config file.
+     */
+    public String key() {
+        return key;
+    }
+
+    /**
+     * Class of the value, matching the option's {@link dev.isxander.yacl.api.Option#typeClass()}.
+     */
+    public Class<T> typeClass() {
+        return typeClass;
+    }
+
+    /**
+     * Codec used to write and read the value.
+     */
+    public ConfigCodec<T> codec() {
+        return codec;
+    }
+
+    @Override
+    public void setValue(T value) {
+        this.lazyValue = null;
+        this.value = value;
+        this.version++;
+        changeListener.accept(this);
+    }
+
+    /**
+     * Sets the value read from the config file, without notifying the holder.
+     */
+    void load(T value) {
+        this.lazyValue = null;
+        this.value = value;
+        this.version++;
+    }
+
+    /**
+     * Defers reading the value from the config file until it is first needed.
+     * The supplier returns {@code null} to keep the current value.
+     */
+    void loadLazily(Supplier<T> lazyValue) {
+        this.lazyValue = lazyValue;
+        this.version++;
+    }
+
+    @Override
+    public T getValue() {
+        if (lazyValue != null) {
+            synchronized (this) {
+                Supplier<T> lazyValue = this.lazyValue;
+                if (lazyValue != null) {
+                    T loaded = lazyValue.get();
+                    if (loaded != null)
+                        value = loaded;
+                    this.lazyValue = null;
+                }
+            }
+        }
+
+        return value;
+    }
+
+    @Override
+    public T defaultValue() {
+        return defaultValue;
+    }
+
+    @Override
+    public long version() {
+        return version;
+    }
+}
@@ -0,0 +1,199 @@
+package dev.isxander.yacl.config;
+
+import com.google.common.hash.HashCode;
+import com.mojang.logging.LogUtils;
+import dev.isxander.yacl.api.Binding;
+import dev.isxander.yacl.api.Option;
+import dev.isxander.yacl.api.utils.OptionUtils;
+import dev.isxander.yacl.gui.YACLScreen;
+import net.minecraft.client.MinecraftClient;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Reloads a {@link JsonConfigHolder} when its file is edited outside of the game,
+ * such as by a script or another instance.
+ * <p>
+ * The file is watched on a background thread. Bursts of events are debounced, and the file is only
+ * parsed if its content hash differs from the one the holder last read or wrote, so the holder's own saves
+ * are ignored. Only entries whose value actually changed are handed to the client thread, at most once per frame.
+ * <p>
+ * If a {@link YACLScreen} is open, options bound to a changed entry that the user hasn't touched
+ * are updated to the new value. Options the user has edited keep their pending value and are reported
+ * as conflicts on the save button, so saving overwrites the external change and undoing accepts it.
+ *
+ * <pre>{@code
+ * JsonConfigHolder config = ...;
+ * config.load();
+ * ConfigFileWatcher watcher = ConfigFileWatcher.start(config);
+ * }</pre>
+ */
+public final class ConfigFileWatcher implements AutoCloseable {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    /** Time without further events before the file is read. */
+    private static final long DEBOUNCE_MILLIS = 100;
+
+    private final JsonConfigHolder holder;
+    private final WatchService watchService;
+    private final Path fileName;
+
+    private final AtomicReference<List<JsonConfigHolder.LoadedValue<?>>> pendingValues = new AtomicReference<>();
+    private final AtomicBoolean applyQueued = new AtomicBoolean();
+
+    private ConfigFileWatcher(JsonConfigHolder holder, WatchService watchService) {
+        this.holder = holder;
+        this.watchService = watchService;
+        this.fileName = holder.path().getFileName();
+    }
+
+    /**
+     * Starts watching the holder's file.
+     *
+     * @throws UncheckedIOException if the file's directory couldn't be watched
+     */
+    public static ConfigFileWatcher start(JsonConfigHolder holder) {
+        Validate.notNull(holder, "`holder` must not be null");
+
+        Path directory = holder.path().toAbsolutePath().getParent();
+        try {
+            Files.createDirectories(directory);
+            WatchService watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+            ConfigFileWatcher watcher = new ConfigFileWatcher(holder, watchService);
+            Thread thread = new Thread(watcher::watch, "YACL Config Watcher (" + watcher.fileName + ")");
+            thread.setDaemon(true);
+            thread.start();
+            return watcher;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to watch config " + holder.path(), e);
+        }
+    }
+
+    /**
+     * Stops watching the file.
+     */
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            LOGGER.warn("Failed to stop watching config {}", holder.path(), e);
+        }
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                boolean changed = pollEvents(watchService.take());
+
+                // wait for the burst of events from a single write to finish
+                WatchKey key;
+                while ((key = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= pollEvents(key);
+                }
+
+                if (changed)
+                    reload();
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // stopped
+        }
+    }
+
+    private boolean pollEvents(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (fileName.equals(event.context()))
+                changed = true;
+        }
+        key.reset();
+        return changed;
+    }
+
+    private void reload() {
+        Path path = holder.path();
+        try {
+            if (!Files.exists(path))
+                return;
+
+            byte[] contents = Files.readAllBytes(path);
+            HashCode hash = JsonConfigHolder.hash(contents);
+            if (hash.equals(holder.fileHash()))
+                return;
+
+            List<JsonConfigHolder.LoadedValue<?>> values = holder.readValues(new StringReader(new String(contents, StandardCharsets.UTF_8)));
+            holder.setFileHash(hash);
+
+            List<JsonConfigHolder.LoadedValue<?>> changedValues = new ArrayList<>();
+            for (JsonConfigHolder.LoadedValue<?> value : values) {
+                if (value.differs())
+                    changedValues.add(value);
+            }
+            if (changedValues.isEmpty())
+                return;
+
+            // each reload compares the whole file, so it replaces any reload the client hasn't applied yet
+            pendingValues.set(changedValues);
+            if (applyQueued.compareAndSet(false, true))
+                MinecraftClient.getInstance().execute(this::apply);
+        } catch (IOException | IllegalStateException e) {
+            // the file may be mid-write by something that doesn't replace it atomically, the next event retries
+            LOGGER.warn("Failed to reload config {}", path, e);
+        }
+    }
+
+    private void apply() {
+        applyQueued.set(false);
+        List<JsonConfigHolder.LoadedValue<?>> values = pendingValues.getAndSet(null);
+        if (values == null)
+            return;
+
+        Map<Binding<?>, List<Option<?>>> boundOptions = new IdentityHashMap<>();
+        YACLScreen screen = MinecraftClient.getInstance().currentScreen instanceof YACLScreen yaclScreen ? yaclScreen : null;
+        if (screen != null) {
+            // unbuilt categories read the new value when they're built
+            OptionUtils.forEachBuiltOptions(screen.config, option -> boundOptions.computeIfAbsent(option.binding(), binding -> new ArrayList<>()).add(option));
+        }
+
+        List<Option<?>> conflicts = new ArrayList<>();
+        for (JsonConfigHolder.LoadedValue<?> value : values) {
+            List<Option<?>> options = boundOptions.getOrDefault(value.entry(), List.of());
+
+            List<Option<?>> untouched = new ArrayList<>();
+            for (Option<?> option : options) {
+                if (option.changed())
+                    conflicts.add(option);
+                else
+                    untouched.add(option);
+            }
+
+            value.load();
+            untouched.forEach(Option::forgetPendingValue);
+        }
+
+        holder.compactJournal();
+        if (screen != null && !conflicts.isEmpty())
+            screen.onExternalConflict(conflicts);
+    }
+}
@@ -0,0 +1,66 @@
+package dev.isxander.yacl.config;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * File helpers shared by the config holders.
+ */
+final class ConfigFiles {
+    private ConfigFiles() {
+    }
+
+    /**
+     * Reads the whole file into a heap buffer.
+     * Nothing keeps the file open or mapped afterwards, so it can be replaced on any platform.
+     */
+    static ByteBuffer readFully(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE)
+                throw new IOException("File too large: " + path);
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+            }
+            // the file may have shrunk while reading
+            return buffer.flip().slice();
+        }
+    }
+
+    /**
+     * Replaces the file with the given contents so that a crash leaves either the old or the new file.
+     * <p>
+     * The contents are written to a temporary file next to it, synced to disk
+     * and renamed over the file.
+     */
+    static void writeAtomically(Path path, ByteBuffer contents) throws IOException {
+        Path parent = path.getParent();
+        if (parent != null)
+            Files.createDirectories(parent);
+
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(channel, contents);
+            channel.force(true);
+        }
+
+        try {
+            Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    static void writeFully(FileChannel channel, ByteBuffer contents) throws IOException {
+        while (contents.hasRemaining()) {
+            channel.write(contents);
+        }
+    }
+}
@@ -0,0 +1,398 @@
+package dev.isxander.yacl.config;
+
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import com.mojang.logging.LogUtils;
+import org.apache.commons.lang3.Validate;
+import org.slf4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Stores config values in a flat JSON object and binds them to options.
+ * <p>
+ * Values are written and read with Gson's streaming {@link JsonWriter} and {@link JsonReader}
+ * through a {@link ConfigCodec} per entry, so there is no reflection or intermediate tree.
+ * Unknown keys in the file are skipped and missing keys keep their default.
+ * <p>
+ * The file is never written in place: {@link #save()} writes a temporary file, syncs it to disk
+ * and atomically renames it over the config, so a crash leaves either the old or the new file.
+ * Values changed between saves, such as by instant options, are appended to a journal next to the
+ * config (one JSON object per line) on a background thread instead of rewriting the whole file.
+ * {@link #load()} replays the journal after the config, and the journal is folded back
+ * into the config once it grows large or the config is saved.
+ *
+ * <pre>{@code
+ * JsonConfigHolder config = new JsonConfigHolder(FabricLoader.getInstance().getConfigDir().resolve("mymod.json"));
+ * ConfigEntry<Boolean> enabled = config.entry("enabled", boolean.class, true);
+ * config.load();
+ *
+ * Option.createBuilder(boolean.class)
+ *         .binding(enabled)
+ *         ...
+ * YetAnotherConfigLib.createBuilder()
+ *         .save(config::save)
+ * }</pre>
+ */
+public class JsonConfigHolder {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    /** Journal size after which it is compacted into the config file. */
+    private static final long COMPACT_THRESHOLD = 64 * 1024;
+
+    private static final ExecutorService JOURNAL_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "YACL Config Journal");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Path path;
+    private final Path journalPath;
+    private final Map<String, ConfigEntry<?>> entries = new LinkedHashMap<>();
+
+    private final Set<ConfigEntry<?>> dirtyEntries = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean journalFlushQueued = new AtomicBoolean();
+    /** Guards the config, temporary and journal files. */
+    private final Object fileLock = new Object();
+    private long journalSize;
+    /** Hash of the config file as last read or written by this holder, to tell external edits apart. */
+    private volatile HashCode fileHash;
+
+    public JsonConfigHolder(Path path) {
+        Validate.notNull(path, "`path` must not be null");
+
+        this.path = path;
+        this.journalPath = path.resolveSibling(path.getFileName() + ".journal");
+    }
+
+    /**
+     * Adds an entry using the codec registered in {@link ConfigCodecs} for its type.
+     *
+     * @param key key of the value in the file
+     * @param typeClass class of the value, the same as passed to {@link dev.isxander.yacl.api.Option#createBuilder(Class)}
+     * @param defaultValue value used if the file does not contain the key, and to reset the option
+     */
+    public <T> ConfigEntry<T> entry(String key, Class<T> typeClass, T defaultValue) {
+        return entry(key, typeClass, ConfigCodecs.get(typeClass), defaultValue);
+    }
+
+    /**
+     * Adds an entry with a custom codec.
+     *
+     * @param key key of the value in the file
+     * @param typeClass class of the value, the same as passed to {@link dev.isxander.yacl.api.Option#createBuilder(Class)}
+     * @param codec writes and reads the value
+     * @param defaultValue value used if the file does not contain the key, and to reset the option
+     */
+    public <T> ConfigEntry<T> entry(String key, Class<T> typeClass, ConfigCodec<T> codec, T defaultValue) {
+        Validate.notNull(key, "`key` must not be null");
+        Validate.notNull(typeClass, "`typeClass` must not be null");
+        Validate.notNull(codec, "`codec` must not be null");
+        Validate.notNull(defaultValue, "`defaultValue` must not be null");
+        Validate.isTrue(!entries.containsKey(key), "duplicate config key `%s`", key);
+
+        ConfigEntry<T> entry = new ConfigEntry<>(key, typeClass, codec, defaultValue, this::entryChanged);
+        entries.put(key, entry);
+        return entry;
+    }
+
+    /**
+     * Gets every entry, in the order they were added.
+     */
+    public Collection<ConfigEntry<?>> entries() {
+        return Collections.unmodifiableCollection(entries.values());
+    }
+
+    /**
+     * Path of the config file.
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Path of the journal, holding values changed since the last save.
+     */
+    public Path journalPath() {
+        return journalPath;
+    }
+
+    /**
+     * Reads the config file into the entries, then replays the journal over them.
+     * Missing files are skipped.
+     *
+     * @throws UncheckedIOException if the config file couldn't be read or parsed
+     */
+    public void load() {
+        synchronized (fileLock) {
+            if (Files.exists(path)) {
+                try {
+                    byte[] contents = Files.readAllBytes(path);
+                    fileHash = hash(contents);
+                    read(new StringReader(new String(contents, StandardCharsets.UTF_8)));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to load config " + path, e);
+                }
+            }
+
+            replayJournal();
+        }
+    }
+
+    /**
+     * Writes every entry to the config file and clears the journal.
+     * <p>
+     * The entries are written to a temporary file which is synced to disk
+     * and then renamed over the config file.
+     *
+     * @throws UncheckedIOException if the file couldn't be written
+     */
+    public void save() {
+        synchronized (fileLock) {
+            // entries changed from here on will be journaled again
+            dirtyEntries.clear();
+
+            try {
+                StringWriter writer = new StringWriter();
+                write(writer);
+                byte[] contents = writer.toString().getBytes(StandardCharsets.UTF_8);
+                fileHash = hash(contents);
+                ConfigFiles.writeAtomically(path, ByteBuffer.wrap(contents));
+
+                Files.deleteIfExists(journalPath);
+                journalSize = 0;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to save config " + path, e);
+            }
+        }
+    }
+
+    /**
+     * Queues the entry to be appended to the journal.
+     * Changes made before the queued write runs are written together.
+     */
+    private void entryChanged(ConfigEntry<?> entry) {
+        dirtyEntries.add(entry);
+        if (journalFlushQueued.compareAndSet(false, true))
+            JOURNAL_EXECUTOR.execute(this::flushJournal);
+    }
+
+    private void flushJournal() {
+        journalFlushQueued.set(false);
+
+        try {
+            boolean compact;
+            synchronized (fileLock) {
+                // taken under the lock so entries already written by a save in the meantime are skipped
+                List<ConfigEntry<?>> changed = new ArrayList<>();
+                for (Iterator<ConfigEntry<?>> iterator = dirtyEntries.iterator(); iterator.hasNext(); ) {
+                    changed.add(iterator.next());
+                    iterator.remove();
+                }
+                if (changed.isEmpty())
+                    return;
+
+                StringBuilder records = new StringBuilder();
+                for (ConfigEntry<?> entry : changed) {
+                    StringWriter record = new StringWriter();
+                    JsonWriter writer = new JsonWriter(record);
+                    writer.beginObject();
+                    writer.name(entry.key());
+                    writeEntry(writer, entry);
+                    writer.endObject();
+                    writer.flush();
+                    records.append(record).append('\n');
+                }
+
+                Path parent = journalPath.getParent();
+                if (parent != null)
+                    Files.createDirectories(parent);
+
+                try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                    ConfigFiles.writeFully(channel, StandardCharsets.UTF_8.encode(records.toString()));
+                    channel.force(false);
+                    journalSize = channel.size();
+                }
+                compact = journalSize > COMPACT_THRESHOLD;
+            }
+
+            if (compact)
+                save();
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.error("Failed to write config journal {}", journalPath, e);
+        }
+    }
+
+    private void replayJournal() {
+        if (!Files.exists(journalPath))
+            return;
+
+        try (BufferedReader lines = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (line.isBlank())
+                    continue;
+
+                try {
+                    read(new StringReader(line));
+                } catch (IOException | IllegalStateException e) {
+                    // only the last record can be partially written, by a crash while appending
+                    LOGGER.warn("Skipping corrupt record in config journal {}", journalPath, e);
+                }
+            }
+            journalSize = Files.size(journalPath);
+        } catch (IOException e) {
+            LOGGER.error("Failed to read config journal {}", journalPath, e);
+        }
+    }
+
+    /**
+     * Reads entries from a JSON object.
+     */
+    public void read(Reader in) throws IOException {
+        for (LoadedValue<?> value : readValues(in)) {
+            value.load();
+        }
+    }
+
+    /**
+     * Decodes the values of known entries from a JSON object without setting them.
+     */
+    List<LoadedValue<?>> readValues(Reader in) throws IOException {
+        List<LoadedValue<?>> values = new ArrayList<>();
+        JsonReader reader = new JsonReader(in);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String key = reader.nextName();
+            ConfigEntry<?> entry = entries.get(key);
+            if (entry == null || reader.peek() == JsonToken.NULL) {
+                reader.skipValue();
+                continue;
+            }
+
+            LoadedValue<?> value = readEntry(reader, entry);
+            if (value != null)
+                values.add(value);
+        }
+        reader.endObject();
+        return values;
+    }
+
+    /**
+     * Hash of the config file as last read or written by this holder, or {@code null} if it hasn't touched the file.
+     */
+    HashCode fileHash() {
+        return fileHash;
+    }
+
+    /**
+     * Records that the config file was read outside of {@link #load()}.
+     */
+    void setFileHash(HashCode fileHash) {
+        this.fileHash = fileHash;
+    }
+
+    /**
+     * Folds any journaled values into the config file on the journal thread.
+     * Needed after the file is changed externally, as replaying an older journal over it would undo the change.
+     */
+    void compactJournal() {
+        JOURNAL_EXECUTOR.execute(() -> {
+            boolean compact;
+            synchronized (fileLock) {
+                compact = journalSize > 0 || Files.exists(journalPath);
+            }
+
+            if (compact) {
+                try {
+                    save();
+                } catch (UncheckedIOException e) {
+                    LOGGER.error("Failed to compact config journal {}", journalPath, e);
+                }
+            }
+        });
+    }
+
+    static HashCode hash(byte[] contents) {
+        return Hashing.sha256().hashBytes(contents);
+    }
+
+    /**
+     * Writes all entries as a JSON object.
+     */
+    public void write(Writer out) throws IOException {
+        JsonWriter writer = new JsonWriter(out);
+        writer.setIndent("  ");
+        writer.beginObject();
+        for (ConfigEntry<?> entry : entries.values()) {
+            writer.name(entry.key());
+            writeEntry(writer, entry);
+        }
+        writer.endObject();
+        writer.flush();
+    }
+
+    private static <T> LoadedValue<T> readEntry(JsonReader reader, ConfigEntry<T> entry) throws IOException {
+        try {
+            return new LoadedValue<>(entry, entry.codec().read(reader));
+        } catch (IllegalStateException | NumberFormatException | JsonParseException e) {
+            LOGGER.warn("Invalid value for config key `{}`, keeping the current value", entry.key(), e);
+            // the codec may have stopped partway through the value
+            if (reader.peek() != JsonToken.NAME && reader.peek() != JsonToken.END_OBJECT)
+                reader.skipValue();
+            return null;
+        }
+    }
+
+    private static <T> void writeEntry(JsonWriter writer, ConfigEntry<T> entry) throws IOException {
+        entry.codec().write(writer, entry.getValue());
+    }
+
+    /**
+     * A value decoded from a config file that hasn't been set on its entry yet.
+     */
+    record LoadedValue<T>(ConfigEntry<T> entry, T value) {
+        /**
+         * Sets the value on the entry without journaling it.
+         */
+        void load() {
+            entry.load(value);
+        }
+
+        /**
+         * Whether the value differs from the entry's current value.
+         */
+        boolean differs() {
+            return !Objects.equals(entry.getValue(), value);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+/**
+ * This package contains an optional first-party config storage that options can bind to directly
+ *
+ * <ul>
+ *     <li>To store values: {@link dev.isxander.yacl.config.JsonConfigHolder}</li>
+ *     <li>To store very large configs: {@link dev.isxander.yacl.config.BinaryConfigHolder}</li>
+ *     <li>To reload external edits: {@link dev.isxander.yacl.config.ConfigFileWatcher}</li>
+ *     <li>To bind an option: {@link dev.isxander.yacl.config.ConfigEntry}</li>
+ *     <li>To serialize custom types: {@link dev.isxander.yacl.config.ConfigCodecs}</li>
+ * </ul>
+ */
+package dev.isxander.yacl.config;
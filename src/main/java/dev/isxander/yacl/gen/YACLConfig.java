@@ -0,0 +1,35 @@
+package dev.isxander.yacl.gen;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a {@link dev.isxander.yacl.api.YetAnotherConfigLib} for the annotated class at compile time.
+ * <p>
+ * For a class {@code MyConfig}, the processor writes {@code MyConfigYACL} in the same package,
+ * with a {@code create(MyConfig config, MyConfig defaults, Runnable saveFunction)} method building
+ * every {@link YACLOption} field into its category and group. Nested classes are named after their
+ * enclosing classes, like {@code Outer_InnerYACL}.
+ * <p>
+ * All text is translatable, with keys built from {@link #translationPrefix()}:
+ * <ul>
+ *     <li>categories: {@code <prefix>.category.<category>}</li>
+ *     <li>groups: {@code <prefix>.group.<group>}</li>
+ *     <li>options: {@code <prefix>.option.<field>}, and {@code <prefix>.option.<field>.tooltip}</li>
+ * </ul>
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface YACLConfig {
+    /**
+     * Translation key of the screen title.
+     */
+    String title();
+
+    /**
+     * Prefix of every generated translation key.
+     */
+    String translationPrefix();
+}
@@ -0,0 +1,48 @@
+package dev.isxander.yacl.gen;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates an {@link dev.isxander.yacl.api.Option} for the annotated field of a {@link YACLConfig} class.
+ * <p>
+ * The field must not be private, static or final. The controller is picked from its type:
+ * <ul>
+ *     <li>{@code boolean}: {@link dev.isxander.yacl.gui.controllers.TickBoxController}</li>
+ *     <li>{@code int}, {@code long}, {@code float}, {@code double}: slider controllers, configured with {@link YACLSlider}</li>
+ *     <li>{@link String}: {@link dev.isxander.yacl.gui.controllers.string.StringController}</li>
+ *     <li>{@link java.awt.Color}: {@link dev.isxander.yacl.gui.controllers.ColorController}</li>
+ *     <li>enums: {@link dev.isxander.yacl.gui.controllers.EnumController}</li>
+ * </ul>
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface YACLOption {
+    /**
+     * Category the option is in. Categories are ordered by their first option.
+     */
+    String category();
+
+    /**
+     * Group the option is in, or empty for the category's root group.
+     * Groups are ordered by their first option.
+     */
+    String group() default "";
+
+    /**
+     * Whether the option has a tooltip.
+     */
+    boolean tooltip() default false;
+
+    /**
+     * Names of the {@link dev.isxander.yacl.api.OptionFlag} constants to add, such as {@code "GAME_RESTART"}.
+     */
+    String[] flags() default {};
+
+    /**
+     * @see dev.isxander.yacl.api.Option.Builder#instant(boolean)
+     */
+    boolean instant() default false;
+}
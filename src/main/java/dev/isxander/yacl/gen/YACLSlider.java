@@ -0,0 +1,20 @@
+package dev.isxander.yacl.gen;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Range of a numeric {@link YACLOption} field.
+ * For {@code int} and {@code long} fields every value must be a whole number.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.FIELD)
+public @interface YACLSlider {
+    double min();
+
+    double max();
+
+    double step();
+}
@@ -0,0 +1,14 @@
+/**
+ * This package contains annotations to generate a {@link dev.isxander.yacl.api.YetAnotherConfigLib} at compile time,
+ * with direct field {@link dev.isxander.yacl.api.Binding}s instead of reflection.
+ * <p>
+ * The annotation processor is published separately with the {@code processor} classifier,
+ * and must be added to the {@code annotationProcessor} configuration.
+ *
+ * <ul>
+ *     <li>On the config class: {@link dev.isxander.yacl.gen.YACLConfig}</li>
+ *     <li>On each field: {@link dev.isxander.yacl.gen.YACLOption}</li>
+ *     <li>On numeric fields: {@link dev.isxander.yacl.gen.YACLSlider}</li>
+ * </ul>
+ */
+package dev.isxander.yacl.gen;
@@ -1,16 +1,13 @@
 package dev.isxander.yacl.gui;
 
-import com.mojang.blaze3d.systems.RenderSystem;
 import dev.isxander.yacl.api.utils.Dimension;
+import dev.isxander.yacl.api.utils.IntDimension;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.font.TextRenderer;
 import net.minecraft.client.gui.Drawable;
-import net.minecraft.client.gui.DrawableHelper;
 import net.minecraft.client.gui.Element;
 import net.minecraft.client.gui.Selectable;
 import net.minecraft.client.gui.screen.narration.NarrationMessageBuilder;
-import net.minecraft.client.gui.widget.ClickableWidget;
-import net.minecraft.client.render.GameRenderer;
 import net.minecraft.client.sound.PositionedSoundInstance;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.sound.SoundEvents;
@@ -25,7 +22,7 @@ public abstract class AbstractWidget implements Element, Drawable, Selectable {
     protected Dimension<Integer> dim;
 
     public AbstractWidget(Dimension<Integer> dim) {
-        this.dim = dim;
+        this.dim = IntDimension.of(dim);
     }
 
     public void postRender(MatrixStack matrices, int mouseX, int mouseY, float delta) {
@@ -33,13 +30,21 @@ public abstract class AbstractWidget implements Element, Drawable, Selectable {
     }
 
     public void setDimension(Dimension<Integer> dim) {
-        this.dim = dim;
+        this.dim = IntDimension.of(dim);
     }
 
     public Dimension<Integer> getDimension() {
         return dim;
     }
 
+    /**
+     * Gets the dimension with primitive accessors, so it can be read every frame without boxing.
+     * This is the same instance as {@link #getDimension()} unless a subclass assigned another kind of {@link Dimension}.
+     */
+    public IntDimension getIntDimension() {
+        return IntDimension.of(getDimension());
+    }
+
     @Override
     public SelectionType getType() {
         return SelectionType.NONE;
@@ -49,10 +54,24 @@ public abstract class AbstractWidget implements Element, Drawable, Selectable {
 
     }
 
+    /**
+     * Checks if the widget matches a search query.
+     * <p>
+     * Option, group and category names are searched through an index without creating widgets,
+     * so this is only consulted for widgets of other mods' controllers that override it,
+     * to match on text the index doesn't know about.
+     */
     public boolean matchesSearch(String query) {
         return true;
     }
 
+    /**
+     * Called once the widget is discarded, to release anything it registered outside itself such as option listeners.
+     */
+    public void dispose() {
+
+    }
+
     @Override
     public void appendNarrations(NarrationMessageBuilder builder) {
 
@@ -69,18 +88,8 @@ public abstract class AbstractWidget implements Element, Drawable, Selectable {
             y1 = y2;
             y2 = yy1;
         }
-        int width = x2 - x1;
-        int height = y2 - y1;
-
-        RenderSystem.setShader(GameRenderer::getPositionTexShader);
-        RenderSystem.setShaderTexture(0, ClickableWidget.WIDGETS_TEXTURE);
-        RenderSystem.setShaderColor(1.0F, 1.0F, 1.0F, 1.0F);
-        int i = !enabled ? 0 : hovered ? 2 : 1;
-        RenderSystem.enableBlend();
-        RenderSystem.defaultBlendFunc();
-        RenderSystem.enableDepthTest();
-        DrawableHelper.drawTexture(matrices, x1, y1, 0, 0, 46 + i * 20, width / 2, height, 256, 256);
-        DrawableHelper.drawTexture(matrices, x1 + width / 2, y1, 0, 200 - width / 2f, 46 + i * 20, width / 2, height, 256, 256);
+
+        QuadRenderer.get().drawButtonTexture(matrices, x1, y1, x2, y2, hovered, enabled);
     }
 
     protected int multiplyColor(int hex, float amount) {
@@ -1,17 +1,34 @@
 package dev.isxander.yacl.gui;
 
 import dev.isxander.yacl.api.ConfigCategory;
+import dev.isxander.yacl.impl.LazyConfigCategoryImpl;
 import net.minecraft.client.sound.SoundManager;
+import net.minecraft.client.util.math.MatrixStack;
 
 public class CategoryWidget extends TooltipButtonWidget {
+    private final ConfigCategory category;
     private final int categoryIndex;
+    private boolean hasBuiltTooltip;
 
     public CategoryWidget(YACLScreen screen, ConfigCategory category, int categoryIndex, int x, int y, int width, int height) {
         super(screen, x, y, width, height, category.name(), category.tooltip(), btn -> {
             screen.searchFieldWidget.setText("");
             screen.changeCategory(categoryIndex);
         });
+        this.category = category;
         this.categoryIndex = categoryIndex;
+        this.hasBuiltTooltip = LazyConfigCategoryImpl.isBuilt(category);
+    }
+
+    @Override
+    public void renderHoveredTooltip(MatrixStack matrices) {
+        // lazy categories only have a tooltip once built
+        if (!hasBuiltTooltip && LazyConfigCategoryImpl.isBuilt(category)) {
+            hasBuiltTooltip = true;
+            setTooltip(category.tooltip());
+        }
+
+        super.renderHoveredTooltip(matrices);
     }
 
     private boolean isCurrentCategory() {
@@ -4,7 +4,9 @@ import com.google.common.collect.ImmutableList;
 import dev.isxander.yacl.api.ConfigCategory;
 import dev.isxander.yacl.api.Option;
 import dev.isxander.yacl.api.OptionGroup;
-import dev.isxander.yacl.api.utils.Dimension;
+import dev.isxander.yacl.api.utils.IntDimension;
+import dev.isxander.yacl.impl.LazyConfigCategoryImpl;
+import dev.isxander.yacl.impl.OptionSearchIndex;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.font.MultilineText;
 import net.minecraft.client.font.TextRenderer;
@@ -23,11 +25,43 @@ import java.util.*;
 import java.util.function.Supplier;
 
 public class OptionListWidget extends ElementListWidget<OptionListWidget.Entry> {
+    /** Several screens worth of rows, even at the smallest GUI scale. */
+    private static final int MAX_CACHED_WIDGETS = 256;
+
     private final YACLScreen yaclScreen;
-    private boolean singleCategory = false;
 
     private ImmutableList<Entry> viewableChildren;
 
+    /**
+     * Widgets are only created once their row is needed. The most recently rendered ones are kept
+     * so scrolling back, changing category or searching does not recreate them.
+     * Widgets are bound to their option, so rows scrolled far away dispose theirs rather than handing it on.
+     * Kept in access order, so looking a widget up marks it as recently used.
+     */
+    private final Map<Option<?>, AbstractWidget> widgetCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Option<?>, AbstractWidget> eldest) {
+            // the focused widget may be mid-edit
+            if (size() <= MAX_CACHED_WIDGETS || getFocused() instanceof OptionEntry entry && entry.option == eldest.getKey())
+                return false;
+
+            eldest.getValue().dispose();
+            return true;
+        }
+    };
+    private int firstRenderedIdx, lastRenderedIdx = -1;
+
+    /**
+     * Cumulative height of {@link #viewableChildren}, where {@code rowOffsets[i]}
+     * is the distance from the top of the list to the top of the entry at index {@code i}.
+     * The last element is the total height of the list.
+     */
+    private int[] rowOffsets = new int[1];
+    /**
+     * First index of {@link #rowOffsets} that needs recalculating, or {@link Integer#MAX_VALUE} if it's up-to-date.
+     */
+    private int rowOffsetsDirtyFrom = Integer.MAX_VALUE;
+
     public OptionListWidget(YACLScreen screen, MinecraftClient client, int width, int height) {
         super(client, width / 3 * 2, height, 0, height, 22);
         this.yaclScreen = screen;
@@ -38,37 +72,26 @@ public class OptionListWidget extends ElementListWidget<OptionListWidget.Entry>
     }
 
     public void refreshOptions() {
+        setFocused(null);
         clearEntries();
 
-        List<ConfigCategory> categories = new ArrayList<>();
-        if (yaclScreen.getCurrentCategoryIdx() == -1) {
-            categories.addAll(yaclScreen.config.categories());
+        if (yaclScreen.getCurrentCategoryIdx() == -1 && !yaclScreen.searchFieldWidget.isEmpty()) {
+            addSearchResults();
         } else {
-            categories.add(yaclScreen.config.categories().get(yaclScreen.getCurrentCategoryIdx()));
-        }
-        singleCategory = categories.size() == 1;
-
-        for (ConfigCategory category : categories) {
-            for (OptionGroup group : category.groups()) {
-                Supplier<Boolean> viewableSupplier;
-                GroupSeparatorEntry groupSeparatorEntry = null;
-                if (!group.isRoot()) {
-                    groupSeparatorEntry = new GroupSeparatorEntry(group, yaclScreen);
-                    viewableSupplier = groupSeparatorEntry::isExpanded;
-                    addEntry(groupSeparatorEntry);
-                } else {
-                    viewableSupplier = () -> true;
-                }
-
-                List<OptionEntry> optionEntries = new ArrayList<>();
-                for (Option<?> option : group.options()) {
-                    OptionEntry entry = new OptionEntry(category, group, option.controller().provideWidget(yaclScreen, Dimension.ofInt(getRowLeft(), 0, getRowWidth(), 20)), viewableSupplier);
-                    addEntry(entry);
-                    optionEntries.add(entry);
+            List<ConfigCategory> categories = new ArrayList<>();
+            if (yaclScreen.getCurrentCategoryIdx() == -1) {
+                // lazy categories are built a tick at a time when searching, and added once done
+                for (ConfigCategory category : yaclScreen.config.categories()) {
+                    if (LazyConfigCategoryImpl.isBuilt(category))
+                        categories.add(category);
                 }
+            } else {
+                categories.add(yaclScreen.config.categories().get(yaclScreen.getCurrentCategoryIdx()));
+            }
 
-                if (groupSeparatorEntry != null) {
-                    groupSeparatorEntry.setOptionEntries(optionEntries);
+            for (ConfigCategory category : categories) {
+                for (OptionGroup group : category.groups()) {
+                    addGroup(category, group, group.options());
                 }
             }
         }
@@ -77,6 +100,68 @@ public class OptionListWidget extends ElementListWidget<OptionListWidget.Entry>
         setScrollAmount(0);
     }
 
+    /**
+     * Adds only the options matching the search, keeping them under their groups.
+     * Groups are ordered by their most relevant option, and options within a group by relevance.
+     */
+    private void addSearchResults() {
+        Map<OptionGroup, List<Option<?>>> groupResults = new IdentityHashMap<>();
+        List<OptionSearchIndex.Match> groupOrder = new ArrayList<>();
+        for (OptionSearchIndex.Match match : yaclScreen.searchFieldWidget.getResults()) {
+            groupResults.computeIfAbsent(match.group(), group -> {
+                groupOrder.add(match);
+                return new ArrayList<>();
+            }).add(match.option());
+        }
+
+        for (OptionSearchIndex.Match match : groupOrder) {
+            addGroup(match.category(), match.group(), groupResults.get(match.group()));
+        }
+    }
+
+    private void addGroup(ConfigCategory category, OptionGroup group, List<Option<?>> options) {
+        Supplier<Boolean> viewableSupplier;
+        GroupSeparatorEntry groupSeparatorEntry = null;
+        if (!group.isRoot()) {
+            groupSeparatorEntry = new GroupSeparatorEntry(group, yaclScreen);
+            viewableSupplier = groupSeparatorEntry::isExpanded;
+            addEntry(groupSeparatorEntry);
+        } else {
+            viewableSupplier = () -> true;
+        }
+
+        List<OptionEntry> optionEntries = new ArrayList<>();
+        for (Option<?> option : options) {
+            OptionEntry entry = new OptionEntry(category, group, option, viewableSupplier);
+            addEntry(entry);
+            optionEntries.add(entry);
+        }
+
+        if (groupSeparatorEntry != null) {
+            groupSeparatorEntry.setOptionEntries(optionEntries);
+        }
+    }
+
+    /**
+     * Gets the widget of an option, creating it if it isn't cached.
+     */
+    AbstractWidget getWidget(Option<?> option) {
+        AbstractWidget widget = widgetCache.get(option);
+        if (widget == null) {
+            widget = option.controller().provideWidget(yaclScreen, IntDimension.of(getRowLeft(), 0, getRowWidth(), 20));
+            widgetCache.put(option, widget);
+        }
+        return widget;
+    }
+
+    /**
+     * Disposes every cached widget, once the list is replaced or its screen is removed.
+     */
+    public void dispose() {
+        widgetCache.values().forEach(AbstractWidget::dispose);
+        widgetCache.clear();
+    }
+
     public void expandAllGroups() {
         for (Entry entry : super.children()) {
             if (entry instanceof GroupSeparatorEntry groupSeparatorEntry) {
@@ -97,38 +182,30 @@ public class OptionListWidget extends ElementListWidget<OptionListWidget.Entry>
         int minX = listMiddleX - this.getRowWidth() / 2;
         int maxX = listMiddleX + this.getRowWidth() / 2;
         int currentY = MathHelper.floor(y - (double) this.top) - this.headerHeight + (int) this.getScrollAmount() - 4;
-        int itemY = 0;
-        int itemIndex = -1;
-        for (int i = 0; i < children().size(); i++) {
-            Entry item = children().get(i);
-            itemY += item.getItemHeight();
-            if (itemY > currentY) {
-                itemIndex = i;
-                break;
-            }
-        }
+        int itemIndex = getEntryIndexAtOffset(currentY);
         return x < (double) this.getScrollbarPositionX() && x >= minX && y <= maxX && itemIndex >= 0 && currentY >= 0 && itemIndex < this.getEntryCount() ? this.children().get(itemIndex) : null;
     }
 
     @Override
     protected int getMaxPosition() {
-        return children().stream().map(Entry::getItemHeight).reduce(0, Integer::sum) + headerHeight;
+        ensureRowOffsets();
+        return rowOffsets[children().size()] + headerHeight;
     }
 
     @Override
     protected void centerScrollOn(Entry entry) {
+        ensureRowOffsets();
+        int index = this.children().indexOf(entry);
         double d = (this.bottom - this.top) / -2d;
-        for (int i = 0; i < this.children().indexOf(entry) && i < this.getEntryCount(); i++)
-            d += children().get(i).getItemHeight();
+        if (index > 0)
+            d += rowOffsets[Math.min(index, this.getEntryCount())];
         this.setScrollAmount(d);
     }
 
     @Override
     protected int getRowTop(int index) {
-        int integer = top + 4 - (int) this.getScrollAmount() + headerHeight;
-        for (int i = 0; i < children().size() && i < index; i++)
-            integer += children().get(i).getItemHeight();
-        return integer;
+        ensureRowOffsets();
+        return top + 4 - (int) this.getScrollAmount() + headerHeight + rowOffsets[MathHelper.clamp(index, 0, children().size())];
     }
 
     @Override
@@ -137,20 +214,33 @@ public class OptionListWidget extends ElementListWidget<OptionListWidget.Entry>
         int right = this.getRowWidth();
         int count = this.getEntryCount();
 
-        for(int i = 0; i < count; ++i) {
+        ensureRowOffsets();
+        int firstVisible = getEntryIndexAtOffset(this.top - getRowTop(0));
+        if (firstVisible < 0)
+            firstVisible = this.top < getRowTop(0) ? 0 : count;
+
+        firstRenderedIdx = firstVisible;
+        lastRenderedIdx = firstVisible - 1;
+        for (int i = firstVisible; i < count; ++i) {
             Entry entry = children().get(i);
             int top = this.getRowTop(i);
-            int bottom = top + entry.getItemHeight();
+            if (top > this.bottom)
+                break;
+            lastRenderedIdx = i;
+
             int entryHeight = entry.getItemHeight() - 4;
-            if (bottom >= this.top && top <= this.bottom) {
-                this.renderEntry(matrices, mouseX, mouseY, delta, i, left, top, right, entryHeight);
-            }
+            this.renderEntry(matrices, mouseX, mouseY, delta, i, left, top, right, entryHeight);
+
+            // entries such as labels can change height when rendered
+            if (entry.getItemHeight() != rowOffsets[i + 1] - rowOffsets[i])
+                invalidateRowOffsets(i);
         }
     }
 
     public void postRender(MatrixStack matrices, int mouseX, int mouseY, float delta) {
-        for (Entry entry : children()) {
-            entry.postRender(matrices, mouseX, mouseY, delta);
+        // only entries rendered this frame can be hovered
+        for (int i = firstRenderedIdx; i <= lastRenderedIdx && i < children().size(); i++) {
+            children().get(i).postRender(matrices, mouseX, mouseY, delta);
         }
     }
 
@@ -161,47 +251,39 @@ public class OptionListWidget extends ElementListWidget<OptionListWidget.Entry>
         return Math.min(396, (int)(width / 1.3f));
     }
 
+    /**
+     * Only one entry can be focused at a time. Keyboard input is routed to it
+     * through {@link net.minecraft.client.gui.ParentElement#keyPressed(int, int, int)}
+     * and {@link net.minecraft.client.gui.ParentElement#charTyped(char, int)},
+     * so the previously focused widget is unfocused whenever focus moves.
+     */
+    @Override
+    public void setFocused(@Nullable Element focused) {
+        Element previous = getFocused();
+        super.setFocused(focused);
+
+        if (previous != focused && previous instanceof OptionEntry optionEntry && optionEntry.hasWidget())
+            optionEntry.getWidget().unfocus();
+    }
+
     @Override
     public boolean mouseClicked(double mouseX, double mouseY, int button) {
-        for (Entry child : children()) {
-            if (child != getEntryAtPosition(mouseX, mouseY) && child instanceof OptionEntry optionEntry)
-                optionEntry.widget.unfocus();
-        }
+        if (getFocused() != getEntryAtPosition(mouseX, mouseY) && getFocused() instanceof OptionEntry optionEntry && optionEntry.hasWidget())
+            optionEntry.getWidget().unfocus();
 
         return super.mouseClicked(mouseX, mouseY, button);
     }
 
     @Override
     public boolean mouseScrolled(double mouseX, double mouseY, double amount) {
-        for (Entry child : children()) {
-            if (child.mouseScrolled(mouseX, mouseY, amount))
-                return true;
-        }
+        Entry hoveredEntry = getEntryAtPosition(mouseX, mouseY);
+        if (hoveredEntry != null && hoveredEntry.mouseScrolled(mouseX, mouseY, amount))
+            return true;
 
         this.setScrollAmount(this.getScrollAmount() - amount * (double) (getMaxScroll() / getEntryCount()) / 2.0D);
         return true;
     }
 
-    @Override
-    public boolean keyPressed(int keyCode, int scanCode, int modifiers) {
-        for (Entry child : children()) {
-            if (child.keyPressed(keyCode, scanCode, modifiers))
-                return true;
-        }
-
-        return super.keyPressed(keyCode, scanCode, modifiers);
-    }
-
-    @Override
-    public boolean charTyped(char chr, int modifiers) {
-        for (Entry child : children()) {
-            if (child.charTyped(chr, modifiers))
-                return true;
-        }
-
-        return super.charTyped(chr, modifiers);
-    }
-
     @Override
     protected int getScrollbarPositionX() {
         return left + width - (int)(width * 0.05f);
@@ -216,6 +298,51 @@ public class OptionListWidget extends ElementListWidget<OptionListWidget.Entry>
 
     public void recacheViewableChildren() {
         this.viewableChildren = ImmutableList.copyOf(super.children().stream().filter(Entry::isViewable).toList());
+        this.rowOffsets = new int[viewableChildren.size() + 1];
+        invalidateRowOffsets(0);
+    }
+
+    /**
+     * Marks the row offsets of the entry at {@code index} and every entry below it as outdated.
+     * They are recalculated the next time the layout is queried.
+     */
+    public void invalidateRowOffsets(int index) {
+        rowOffsetsDirtyFrom = Math.min(rowOffsetsDirtyFrom, Math.max(index, 0));
+    }
+
+    private void ensureRowOffsets() {
+        List<Entry> children = children();
+        if (children == null || rowOffsetsDirtyFrom >= rowOffsets.length)
+            return;
+
+        int size = children.size();
+        for (int i = rowOffsetsDirtyFrom; i < size; i++) {
+            rowOffsets[i + 1] = rowOffsets[i] + children.get(i).getItemHeight();
+        }
+        rowOffsetsDirtyFrom = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Binary searches {@link #rowOffsets} for the entry that covers the given offset from the top of the list.
+     *
+     * @return index of the entry, or -1 if the offset is outside the list
+     */
+    private int getEntryIndexAtOffset(int offset) {
+        ensureRowOffsets();
+        int size = children().size();
+        if (offset < 0 || offset >= rowOffsets[size])
+            return -1;
+
+        int low = 0;
+        int high = size - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (rowOffsets[mid] <= offset)
+                low = mid;
+            else
+                high = mid - 1;
+        }
+        return low;
     }
 
     @Override
@@ -244,72 +371,102 @@ public class OptionListWidget extends ElementListWidget<OptionListWidget.Entry>
     public class OptionEntry extends Entry {
         public final ConfigCategory category;
         public final OptionGroup group;
+        public final Option<?> option;
 
-        public final AbstractWidget widget;
         private final Supplier<Boolean> viewableSupplier;
 
-        private final String categoryName;
-        private final String groupName;
+        /** Rows that haven't been rendered yet take the height of a regular controller. */
+        private int itemHeight = 22;
 
-        private OptionEntry(ConfigCategory category, OptionGroup group, AbstractWidget widget, Supplier<Boolean> viewableSupplier) {
+        private OptionEntry(ConfigCategory category, OptionGroup group, Option<?> option, Supplier<Boolean> viewableSupplier) {
             this.category = category;
             this.group = group;
-            this.widget = widget;
+            this.option = option;
             this.viewableSupplier = viewableSupplier;
-            this.categoryName = category.name().getString().toLowerCase();
-            this.groupName = group.name().getString().toLowerCase();
+
+            AbstractWidget widget = widgetCache.get(option);
+            if (widget != null)
+                widget.unfocus();
+        }
+
+        /**
+         * Gets the widget of this entry, creating it if it isn't cached.
+         */
+        public AbstractWidget getWidget() {
+            return OptionListWidget.this.getWidget(option);
+        }
+
+        /**
+         * Checks if the widget of this entry is currently created.
+         */
+        public boolean hasWidget() {
+            return widgetCache.containsKey(option);
         }
 
         @Override
         public void render(MatrixStack matrices, int index, int y, int x, int entryWidth, int entryHeight, int mouseX, int mouseY, boolean hovered, float tickDelta) {
-            widget.setDimension(widget.getDimension().setY(y));
+            // looking the widget up marks it as recently used
+            AbstractWidget widget = getWidget();
+
+            // only re-lay out the widget when it has actually moved
+            IntDimension dim = widget.getIntDimension();
+            if (dim.getY() != y)
+                widget.setDimension(dim.setY(y));
 
             widget.render(matrices, mouseX, mouseY, tickDelta);
+            itemHeight = widget.getIntDimension().getHeight() + 2;
         }
 
         @Override
         public void postRender(MatrixStack matrices, int mouseX, int mouseY, float delta) {
-            widget.postRender(matrices, mouseX, mouseY, delta);
+            if (hasWidget())
+                getWidget().postRender(matrices, mouseX, mouseY, delta);
         }
 
         @Override
         public boolean mouseScrolled(double mouseX, double mouseY, double amount) {
-            return widget.mouseScrolled(mouseX, mouseY, amount);
+            return hasWidget() && getWidget().mouseScrolled(mouseX, mouseY, amount);
         }
 
         @Override
         public boolean keyPressed(int keyCode, int scanCode, int modifiers) {
-            return widget.keyPressed(keyCode, scanCode, modifiers);
+            return hasWidget() && getWidget().keyPressed(keyCode, scanCode, modifiers);
         }
 
         @Override
         public boolean charTyped(char chr, int modifiers) {
-            return widget.charTyped(chr, modifiers);
+            return hasWidget() && getWidget().charTyped(chr, modifiers);
+        }
+
+        @Override
+        public boolean changeFocus(boolean lookForwards) {
+            // tabbing onto a row that hasn't been rendered yet needs its widget
+            getWidget();
+            return super.changeFocus(lookForwards);
         }
 
         @Override
         public boolean isViewable() {
-            String query = yaclScreen.searchFieldWidget.getText();
             return viewableSupplier.get()
                     && (yaclScreen.searchFieldWidget.isEmpty()
-                    || (!singleCategory && categoryName.contains(query))
-                    || groupName.contains(query)
-                    || widget.matchesSearch(query));
+                    || yaclScreen.searchFieldWidget.matches(option));
         }
 
         @Override
         public int getItemHeight() {
-            return widget.getDimension().height() + 2;
+            // remembered from the last render, so evicting the widget doesn't change the row offsets
+            return itemHeight;
         }
 
+        // rows without a widget have nothing to select or narrate, looking them up must not create every widget
         @Override
         public List<? extends Selectable> selectableChildren() {
-            return ImmutableList.of(widget);
+            return hasWidget() ? ImmutableList.of(getWidget()) : ImmutableList.of();
         }
 
         @Override
         public List<? extends Element> children() {
-            return ImmutableList.of(widget);
+            return hasWidget() ? ImmutableList.of(getWidget()) : ImmutableList.of();
         }
     }
 
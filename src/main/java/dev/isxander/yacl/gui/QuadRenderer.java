@@ -0,0 +1,52 @@
+package dev.isxander.yacl.gui;
+
+import com.mojang.blaze3d.systems.RenderSystem;
+import net.minecraft.client.gui.DrawableHelper;
+import net.minecraft.client.gui.widget.ClickableWidget;
+import net.minecraft.client.render.GameRenderer;
+import net.minecraft.client.util.math.MatrixStack;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * Draws the untextured and button quads of YACL's widgets.
+ * <p>
+ * Everything else about rendering a widget is plain Java, so replacing this
+ * lets benchmarks render widgets without an OpenGL context.
+ */
+@ApiStatus.Internal
+public class QuadRenderer {
+    private static QuadRenderer instance = new QuadRenderer();
+
+    public static QuadRenderer get() {
+        return instance;
+    }
+
+    /**
+     * Replaces the renderer used by every widget.
+     */
+    public static void set(QuadRenderer renderer) {
+        instance = renderer;
+    }
+
+    public void fill(MatrixStack matrices, int x1, int y1, int x2, int y2, int color) {
+        DrawableHelper.fill(matrices, x1, y1, x2, y2, color);
+    }
+
+    /**
+     * Draws the vanilla button texture stretched over the given bounds, with {@code x1 <= x2} and {@code y1 <= y2}.
+     */
+    public void drawButtonTexture(MatrixStack matrices, int x1, int y1, int x2, int y2, boolean hovered, boolean enabled) {
+        int width = x2 - x1;
+        int height = y2 - y1;
+
+        RenderSystem.setShader(GameRenderer::getPositionTexShader);
+        RenderSystem.setShaderTexture(0, ClickableWidget.WIDGETS_TEXTURE);
+        RenderSystem.setShaderColor(1.0F, 1.0F, 1.0F, 1.0F);
+        int i = !enabled ? 0 : hovered ? 2 : 1;
+        RenderSystem.enableBlend();
+        RenderSystem.defaultBlendFunc();
+        RenderSystem.enableDepthTest();
+        DrawableHelper.drawTexture(matrices, x1, y1, 0, 0, 46 + i * 20, width / 2, height, 256, 256);
+        DrawableHelper.drawTexture(matrices, x1 + width / 2, y1, 0, 200 - width / 2f, 46 + i * 20, width / 2, height, 256, 256);
+    }
+}
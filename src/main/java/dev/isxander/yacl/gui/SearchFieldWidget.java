@@ -1,17 +1,42 @@
 package dev.isxander.yacl.gui;
 
+import dev.isxander.yacl.api.Option;
+import dev.isxander.yacl.gui.controllers.ControllerWidget;
+import dev.isxander.yacl.impl.OptionSearchIndex;
 import net.minecraft.client.font.TextRenderer;
 import net.minecraft.client.gui.widget.TextFieldWidget;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.text.Text;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
 public class SearchFieldWidget extends TextFieldWidget {
+    /** Whether a widget class matches searches on more than the option name. */
+    private static final ClassValue<Boolean> CUSTOM_SEARCH = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                Class<?> declaringClass = type.getMethod("matchesSearch", String.class).getDeclaringClass();
+                return declaringClass != AbstractWidget.class && declaringClass != ControllerWidget.class;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     private Text emptyText;
     private final YACLScreen yaclScreen;
     private final TextRenderer textRenderer;
 
     private boolean isEmpty = true;
 
+    private List<OptionSearchIndex.Match> results = List.of();
+    private Set<Option<?>> resultSet = Set.of();
+
     public SearchFieldWidget(YACLScreen yaclScreen, TextRenderer textRenderer, int x, int y, int width, int height, Text text, Text emptyText) {
         super(textRenderer, x, y, width, height, text);
         setChangedListener(string -> update());
@@ -36,10 +61,22 @@ public class SearchFieldWidget extends TextFieldWidget {
         if (isEmpty && wasEmpty)
             return;
 
-        if (!isEmpty && yaclScreen.getCurrentCategoryIdx() != -1)
+        if (isEmpty) {
+            results = List.of();
+            resultSet = Set.of();
+        } else {
+            search();
+        }
+
+        // while searching the list only holds the results, in ranked order
+        if (isEmpty) {
+            if (yaclScreen.getCurrentCategoryIdx() == -1)
+                yaclScreen.changeCategory(0);
+        } else if (yaclScreen.getCurrentCategoryIdx() != -1) {
             yaclScreen.changeCategory(-1);
-        if (isEmpty && yaclScreen.getCurrentCategoryIdx() == -1)
-            yaclScreen.changeCategory(0);
+        } else {
+            yaclScreen.optionList.refreshOptions();
+        }
 
         yaclScreen.optionList.expandAllGroups();
         yaclScreen.optionList.recacheViewableChildren();
@@ -48,10 +85,64 @@ public class SearchFieldWidget extends TextFieldWidget {
         yaclScreen.categoryList.setScrollAmount(0);
     }
 
+    /**
+     * Runs the current query again, for when more options have become searchable.
+     */
+    public void refreshResults() {
+        if (isEmpty)
+            return;
+
+        search();
+
+        yaclScreen.optionList.refreshOptions();
+        yaclScreen.optionList.expandAllGroups();
+        yaclScreen.optionList.recacheViewableChildren();
+    }
+
+    private void search() {
+        OptionSearchIndex index = yaclScreen.getSearchIndex();
+        results = index.search(getText());
+        resultSet = Collections.newSetFromMap(new IdentityHashMap<>(results.size()));
+        for (OptionSearchIndex.Match match : results) {
+            resultSet.add(match.option());
+        }
+
+        // widgets of other mods may match on text the index doesn't know about, ranked after the index results
+        List<OptionSearchIndex.Match> widgetResults = null;
+        for (OptionSearchIndex.Match match : index.customControllerMatches()) {
+            if (resultSet.contains(match.option()) || yaclScreen.optionList == null)
+                continue;
+
+            AbstractWidget widget = yaclScreen.optionList.getWidget(match.option());
+            if (CUSTOM_SEARCH.get(widget.getClass()) && widget.matchesSearch(getText())) {
+                if (widgetResults == null)
+                    widgetResults = new ArrayList<>(results);
+                widgetResults.add(match);
+                resultSet.add(match.option());
+            }
+        }
+        if (widgetResults != null)
+            results = widgetResults;
+    }
+
     public boolean isEmpty() {
         return isEmpty;
     }
 
+    /**
+     * Checks if the option matches the current query.
+     */
+    public boolean matches(Option<?> option) {
+        return resultSet.contains(option);
+    }
+
+    /**
+     * Gets all options matching the current query, most relevant first.
+     */
+    public List<OptionSearchIndex.Match> getResults() {
+        return results;
+    }
+
     public Text getEmptyText() {
         return emptyText;
     }
@@ -1,25 +1,43 @@
 package dev.isxander.yacl.gui;
 
+import com.google.common.collect.ImmutableList;
 import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.logging.LogUtils;
 import dev.isxander.yacl.api.*;
-import dev.isxander.yacl.api.utils.Dimension;
+import dev.isxander.yacl.api.utils.IntDimension;
 import dev.isxander.yacl.api.utils.OptionUtils;
+import dev.isxander.yacl.impl.AsyncConfigSaver;
+import dev.isxander.yacl.impl.ChangedOptionsTracker;
+import dev.isxander.yacl.impl.InstantApplyBatcher;
+import dev.isxander.yacl.impl.LazyConfigCategoryImpl;
+import dev.isxander.yacl.impl.OptionFlagSchedulerImpl;
+import dev.isxander.yacl.impl.OptionSearchIndex;
+import dev.isxander.yacl.impl.YetAnotherConfigLibImpl;
 import net.minecraft.client.font.MultilineText;
 import net.minecraft.client.font.TextRenderer;
 import net.minecraft.client.gui.Element;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.client.render.*;
 import net.minecraft.client.util.math.MatrixStack;
+import net.minecraft.text.MutableText;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.Matrix4f;
+import org.jetbrains.annotations.ApiStatus;
+import org.slf4j.Logger;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.CompletableFuture;
 
 public class YACLScreen extends Screen {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
     public final YetAnotherConfigLib config;
     private int currentCategoryIdx;
 
@@ -32,56 +50,67 @@ public class YACLScreen extends Screen {
 
     public Text saveButtonMessage, saveButtonTooltipMessage;
     private int saveButtonMessageTime;
-
+    /** Save the current save button message is waiting on, it stays until the save is done. */
+    private CompletableFuture<Void> saveButtonMessageSave;
+
+    private final ChangedOptionsTracker changedOptions;
+    private final InstantApplyBatcher instantBatcher;
+    private boolean actionAvailabilityValid;
+    private boolean lastPendingChanges;
+
+    private OptionSearchIndex searchIndex;
+    private boolean buildingCategories;
+    /** Lazy categories whose supplier threw, they are tried again the next time the screen opens. */
+    private final Set<ConfigCategory> failedCategories = Collections.newSetFromMap(new IdentityHashMap<>());
+    private AsyncConfigSaver asyncSaver;
+    private boolean holdingFlags;
+    private boolean scannedBindings;
 
     public YACLScreen(YetAnotherConfigLib config, Screen parent) {
         super(config.title());
         this.config = config;
         this.parent = parent;
         this.currentCategoryIdx = 0;
+        this.changedOptions = ChangedOptionsTracker.of(config);
+        this.instantBatcher = InstantApplyBatcher.of(config);
     }
 
     @Override
     protected void init() {
+        // flags are run once the screen closes
+        if (!holdingFlags) {
+            holdingFlags = true;
+            OptionFlagSchedulerImpl.INSTANCE.hold();
+        }
+
         int columnWidth = width / 3;
         int padding = columnWidth / 20;
         columnWidth = Math.min(columnWidth, 400);
         int paddedWidth = columnWidth - padding * 2;
 
-        Dimension<Integer> actionDim = Dimension.ofInt(width / 3 / 2, height - padding - 20, paddedWidth, 20);
-        finishedSaveButton = new TooltipButtonWidget(this, actionDim.x() - actionDim.width() / 2, actionDim.y(), actionDim.width(), actionDim.height(), Text.empty(), Text.empty(), (btn) -> {
-            saveButtonMessage = null;
+        IntDimension actionDim = IntDimension.of(width / 3 / 2, height - padding - 20, paddedWidth, 20);
+        finishedSaveButton = new TooltipButtonWidget(this, actionDim.getX() - actionDim.getWidth() / 2, actionDim.getY(), actionDim.getWidth(), actionDim.getHeight(), Text.empty(), Text.empty(), (btn) -> {
+            clearSaveButtonMessage();
 
             if (pendingChanges()) {
-                Set<OptionFlag> flags = new HashSet<>();
-                OptionUtils.forEachOptions(config, option -> {
-                    if (option.applyValue()) {
-                        flags.addAll(option.flags());
-                    }
-                });
-                OptionUtils.forEachOptions(config, option -> {
-                    if (option.changed()) {
-                        option.forgetPendingValue();
-                    }
-                });
-                config.saveFunction().run();
-
-                flags.forEach(flag -> flag.accept(client));
+                applyOptions(changedOptions.getChangedOptions(), false);
             } else close();
         });
-        actionDim.expand(-actionDim.width() / 2 - 2, 0).move(-actionDim.width() / 2 - 2, -22);
-        cancelResetButton = new TooltipButtonWidget(this, actionDim.x() - actionDim.width() / 2, actionDim.y(), actionDim.width(), actionDim.height(), Text.empty(), Text.empty(), (btn) -> {
+        actionDim.expand(-actionDim.getWidth() / 2 - 2, 0).move(-actionDim.getWidth() / 2 - 2, -22);
+        cancelResetButton = new TooltipButtonWidget(this, actionDim.getX() - actionDim.getWidth() / 2, actionDim.getY(), actionDim.getWidth(), actionDim.getHeight(), Text.empty(), Text.empty(), (btn) -> {
             if (pendingChanges()) {
-                OptionUtils.forEachOptions(config, Option::forgetPendingValue);
+                flushInstantBatch();
+                changedOptions.getChangedOptions().forEach(Option::forgetPendingValue);
                 close();
             } else {
                 OptionUtils.forEachOptions(config, Option::requestSetDefault);
             }
 
         });
-        actionDim.move(actionDim.width() + 4, 0);
-        undoButton = new TooltipButtonWidget(this, actionDim.x() - actionDim.width() / 2, actionDim.y(), actionDim.width(), actionDim.height(), Text.translatable("yacl.gui.undo"), Text.translatable("yacl.gui.undo.tooltip"), (btn) -> {
-            OptionUtils.forEachOptions(config, Option::forgetPendingValue);
+        actionDim.move(actionDim.getWidth() + 4, 0);
+        undoButton = new TooltipButtonWidget(this, actionDim.getX() - actionDim.getWidth() / 2, actionDim.getY(), actionDim.getWidth(), actionDim.getHeight(), Text.translatable("yacl.gui.undo"), Text.translatable("yacl.gui.undo.tooltip"), (btn) -> {
+            flushInstantBatch();
+            changedOptions.getChangedOptions().forEach(Option::forgetPendingValue);
         });
 
         searchFieldWidget = new SearchFieldWidget(this, textRenderer, width / 3 / 2 - paddedWidth / 2 + 1, undoButton.y - 22, paddedWidth - 2, 18, Text.translatable("gui.recipebook.search_hint"), Text.translatable("gui.recipebook.search_hint"));
@@ -89,12 +118,21 @@ public class YACLScreen extends Screen {
         categoryList = new CategoryListWidget(client, this, width, height);
         addSelectableChild(categoryList);
 
+        // bound values may have changed since the config was last open, binding versions catch changes after that
+        if (!scannedBindings) {
+            scannedBindings = true;
+            changedOptions.rescan();
+        }
+        actionAvailabilityValid = false;
         updateActionAvailability();
         addDrawableChild(searchFieldWidget);
         addDrawableChild(cancelResetButton);
         addDrawableChild(undoButton);
         addDrawableChild(finishedSaveButton);
 
+        // resizing replaces the option list along with its widgets
+        if (optionList != null)
+            optionList.dispose();
         optionList = new OptionListWidget(this, client, width, height);
         addSelectableChild(optionList);
 
@@ -154,59 +192,222 @@ public class YACLScreen extends Screen {
         return currentCategoryIdx;
     }
 
+    private static <T> OptionChange<T> applyOption(Option<T> option) {
+        T oldValue = option.binding().getValue();
+        T newValue = option.pendingValue();
+        return option.applyValue() ? new OptionChange<>(option, oldValue, newValue) : null;
+    }
+
+    /**
+     * Applies the pending values of the options, saves them with a single save callback
+     * and schedules the flags of every changed option.
+     *
+     * @param runFlagsNow run the flags straight away instead of when the screen closes, for live previews
+     */
+    private void applyOptions(List<Option<?>> options, boolean runFlagsNow) {
+        Set<OptionFlag> flags = new HashSet<>();
+        ImmutableList.Builder<OptionChange<?>> changes = ImmutableList.builder();
+        for (Option<?> option : options) {
+            OptionChange<?> change = applyOption(option);
+            if (change != null) {
+                changes.add(change);
+                flags.addAll(option.flags());
+            }
+        }
+        for (Option<?> option : options) {
+            if (option.changed()) {
+                option.forgetPendingValue();
+            }
+        }
+
+        if (config.asyncSave()) {
+            CompletableFuture<Void> save = getAsyncSaver().save(changes.build());
+            setSaveButtonMessage(Text.translatable("yacl.gui.saving"), Text.translatable("yacl.gui.saving.tooltip"));
+            saveButtonMessageSave = save;
+            save.whenCompleteAsync((result, throwable) -> {
+                // the values are applied whether or not they were written, so their side effects must happen too
+                scheduleFlags(flags, runFlagsNow);
+
+                if (throwable != null) {
+                    setSaveButtonMessage(Text.translatable("yacl.gui.fail_save").formatted(Formatting.RED), Text.translatable("yacl.gui.fail_save.tooltip"));
+                } else {
+                    setSaveButtonMessage(Text.translatable("yacl.gui.saved").formatted(Formatting.GREEN), Text.translatable("yacl.gui.saved.tooltip"));
+                }
+            }, client);
+        } else {
+            try {
+                config.saveChangesFunction().accept(changes.build());
+            } finally {
+                scheduleFlags(flags, runFlagsNow);
+            }
+        }
+    }
+
+    private static void scheduleFlags(Set<OptionFlag> flags, boolean runNow) {
+        // flags deferred by earlier saves keep waiting for the screen to close
+        if (runNow)
+            OptionFlagScheduler.getInstance().runNow(flags);
+        else
+            OptionFlagScheduler.getInstance().schedule(flags);
+    }
+
+    /**
+     * Applies batched instant options straight away, so they aren't discarded with the other pending values.
+     */
+    private void flushInstantBatch() {
+        List<Option<?>> options = instantBatcher.drain();
+        if (!options.isEmpty())
+            applyOptions(options, false);
+    }
+
+    private AsyncConfigSaver getAsyncSaver() {
+        if (asyncSaver == null)
+            asyncSaver = config instanceof YetAnotherConfigLibImpl impl ? impl.asyncSaver() : new AsyncConfigSaver(config.saveChangesFunction());
+        return asyncSaver;
+    }
+
+    /**
+     * Gets the search index of the config, built the first time it's needed.
+     * <p>
+     * If the config has lazy categories that haven't been built, they are built one per tick
+     * and the search results are refreshed once they're done.
+     * Categories are built on the client thread as their options may expect to be created there.
+     */
+    public OptionSearchIndex getSearchIndex() {
+        if (config instanceof YetAnotherConfigLibImpl impl) {
+            if (!buildingCategories && nextLazyCategory() != null)
+                buildingCategories = true;
+            return impl.searchIndex();
+        }
+
+        if (searchIndex == null)
+            searchIndex = new OptionSearchIndex(config);
+        return searchIndex;
+    }
+
+    private LazyConfigCategoryImpl nextLazyCategory() {
+        for (ConfigCategory category : config.categories()) {
+            if (category instanceof LazyConfigCategoryImpl lazyCategory && !lazyCategory.isBuilt() && !failedCategories.contains(category))
+                return lazyCategory;
+        }
+        return null;
+    }
+
+    private void buildNextLazyCategory() {
+        LazyConfigCategoryImpl category = nextLazyCategory();
+        if (category == null) {
+            buildingCategories = false;
+            searchFieldWidget.refreshResults();
+            return;
+        }
+
+        try {
+            category.get();
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to build config category `{}`", category.name().getString(), e);
+            failedCategories.add(category);
+        }
+    }
+
     private void updateActionAvailability() {
         boolean pendingChanges = pendingChanges();
+        if (actionAvailabilityValid && pendingChanges == lastPendingChanges)
+            return;
+        actionAvailabilityValid = true;
+        lastPendingChanges = pendingChanges;
 
         undoButton.active = pendingChanges;
         finishedSaveButton.setMessage(pendingChanges ? Text.translatable("yacl.gui.save") : Text.translatable("gui.done"));
         finishedSaveButton.setTooltip(pendingChanges ? Text.translatable("yacl.gui.save.tooltip") : Text.translatable("yacl.gui.finished.tooltip"));
         cancelResetButton.setMessage(pendingChanges ? Text.translatable("gui.cancel") : Text.translatable("controls.reset"));
         cancelResetButton.setTooltip(pendingChanges ? Text.translatable("yacl.gui.cancel.tooltip") : Text.translatable("yacl.gui.reset.tooltip"));
+
+        if (saveButtonMessage != null)
+            applySaveButtonMessage();
     }
 
     @Override
     public void tick() {
         searchFieldWidget.tick();
 
+        if (buildingCategories)
+            buildNextLazyCategory();
+
+        List<Option<?>> instantOptions = instantBatcher.tick();
+        if (!instantOptions.isEmpty())
+            applyOptions(instantOptions, true);
+
         updateActionAvailability();
 
         if (saveButtonMessage != null) {
-            if (saveButtonMessageTime > 140) {
-                saveButtonMessage = null;
-                saveButtonTooltipMessage = null;
-                saveButtonMessageTime = 0;
+            if (saveButtonMessageTime > 140 && (saveButtonMessageSave == null || saveButtonMessageSave.isDone())) {
+                clearSaveButtonMessage();
             } else {
+                if (saveButtonMessageTime == 0)
+                    applySaveButtonMessage();
                 saveButtonMessageTime++;
-                finishedSaveButton.setMessage(saveButtonMessage);
-                if (saveButtonTooltipMessage != null) {
-                    finishedSaveButton.setTooltip(saveButtonTooltipMessage);
-                }
             }
         }
     }
 
+    /**
+     * Shows that the bound values of options the user has edited were changed outside of the GUI.
+     * The pending values are kept, so saving overwrites the external change and undoing accepts it.
+     */
+    @ApiStatus.Internal
+    public void onExternalConflict(Collection<Option<?>> conflicts) {
+        // bound values changed without going through the options
+        changedOptions.rescan();
+        actionAvailabilityValid = false;
+        updateActionAvailability();
+
+        MutableText names = Text.empty();
+        boolean first = true;
+        for (Option<?> option : conflicts) {
+            if (!first) names.append(", ");
+            first = false;
+
+            names.append(option.name());
+        }
+        setSaveButtonMessage(Text.translatable("yacl.gui.external_conflict").formatted(Formatting.GOLD), Text.translatable("yacl.gui.external_conflict.tooltip", names));
+    }
+
     private void setSaveButtonMessage(Text message, Text tooltip) {
         saveButtonMessage = message;
         saveButtonTooltipMessage = tooltip;
         saveButtonMessageTime = 0;
+        saveButtonMessageSave = null;
     }
 
-    private boolean pendingChanges() {
-        AtomicBoolean pendingChanges = new AtomicBoolean(false);
-        OptionUtils.consumeOptions(config, (option) -> {
-            if (option.changed()) {
-                pendingChanges.set(true);
-                return true;
-            }
-            return false;
-        });
+    private void clearSaveButtonMessage() {
+        if (saveButtonMessage == null)
+            return;
 
-        return pendingChanges.get();
+        saveButtonMessage = null;
+        saveButtonTooltipMessage = null;
+        saveButtonMessageTime = 0;
+        saveButtonMessageSave = null;
+
+        // restore the regular save button message
+        actionAvailabilityValid = false;
+        updateActionAvailability();
+    }
+
+    private void applySaveButtonMessage() {
+        finishedSaveButton.setMessage(saveButtonMessage);
+        if (saveButtonTooltipMessage != null) {
+            finishedSaveButton.setTooltip(saveButtonTooltipMessage);
+        }
+    }
+
+    private boolean pendingChanges() {
+        return changedOptions.hasChanges();
     }
 
     @Override
     public boolean shouldCloseOnEsc() {
-        if (pendingChanges()) {
+        // batched instant options are applied by removed() once the screen closes, so they don't hold it open
+        if (pendingChanges() && !instantBatcher.containsAll(changedOptions.getChangedOptions())) {
             setSaveButtonMessage(Text.translatable("yacl.gui.save_before_exit").formatted(Formatting.RED), Text.translatable("yacl.gui.save_before_exit.tooltip"));
             return false;
         }
@@ -218,6 +419,19 @@ public class YACLScreen extends Screen {
         client.setScreen(parent);
     }
 
+    @Override
+    public void removed() {
+        // the screen may be replaced without going through cancel or escape
+        flushInstantBatch();
+        if (optionList != null)
+            optionList.dispose();
+
+        if (holdingFlags) {
+            holdingFlags = false;
+            OptionFlagSchedulerImpl.INSTANCE.release();
+        }
+    }
+
     public static void renderMultilineTooltip(MatrixStack matrices, TextRenderer textRenderer, MultilineText text, int centerX, int yAbove, int yBelow, int screenWidth, int screenHeight) {
         if (text.count() > 0) {
             int maxWidth = text.getMaxWidth();
@@ -67,11 +67,8 @@ public class ActionController implements Controller<BiConsumer<YACLScreen, Butto
     }
 
     public static class ActionControllerElement extends ControllerWidget<ActionController> {
-        private final String buttonString;
-
         public ActionControllerElement(ActionController control, YACLScreen screen, Dimension<Integer> dim) {
             super(control, screen, dim);
-            buttonString = control.formatValue().getString().toLowerCase();
         }
 
         public void executeAction() {
@@ -106,10 +103,5 @@ public class ActionController implements Controller<BiConsumer<YACLScreen, Butto
         protected int getHoveredControlWidth() {
             return getUnhoveredControlWidth();
         }
-
-        @Override
-        public boolean matchesSearch(String query) {
-            return super.matchesSearch(query) || buttonString.contains(query);
-        }
     }
 }
@@ -103,6 +103,9 @@ public class BooleanController implements Controller<Boolean> {
     }
 
     public static class BooleanControllerElement extends ControllerWidget<BooleanController> {
+        private Text colouredValueSource;
+        private Text colouredValueText;
+
         private BooleanControllerElement(BooleanController control, YACLScreen screen, Dimension<Integer> dim) {
             super(control, screen, dim);
         }
@@ -133,11 +136,15 @@ public class BooleanController implements Controller<Boolean> {
 
         @Override
         protected Text getValueText() {
-            if (control.coloured()) {
-                return super.getValueText().copy().formatted(control.option().pendingValue() ? Formatting.GREEN : Formatting.RED);
-            }
+            Text valueText = super.getValueText();
+            if (!control.coloured())
+                return valueText;
 
-            return super.getValueText();
+            if (valueText != colouredValueSource) {
+                colouredValueSource = valueText;
+                colouredValueText = valueText.copy().formatted(control.option().pendingValue() ? Formatting.GREEN : Formatting.RED);
+            }
+            return colouredValueText;
         }
 
         @Override
@@ -3,11 +3,12 @@ package dev.isxander.yacl.gui.controllers;
 import com.google.common.collect.ImmutableList;
 import dev.isxander.yacl.api.Option;
 import dev.isxander.yacl.api.utils.Dimension;
+import dev.isxander.yacl.api.utils.IntDimension;
 import dev.isxander.yacl.gui.AbstractWidget;
+import dev.isxander.yacl.gui.QuadRenderer;
 import dev.isxander.yacl.gui.YACLScreen;
 import dev.isxander.yacl.gui.controllers.string.IStringController;
 import dev.isxander.yacl.gui.controllers.string.StringControllerElement;
-import net.minecraft.client.gui.DrawableHelper;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.text.MutableText;
 import net.minecraft.text.Text;
@@ -114,13 +115,18 @@ public class ColorController implements IStringController<Color> {
 
         @Override
         protected void drawValueText(MatrixStack matrices, int mouseX, int mouseY, float delta) {
+            // the preview sits left of the input field while it is shown
+            int previewOffset = 0;
             if (isHovered()) {
-                colorPreviewDim.move(-inputFieldBounds.width() - 5, 0);
+                previewOffset = -getInputFieldBounds().getWidth() - 5;
                 super.drawValueText(matrices, mouseX, mouseY, delta);
             }
 
-            DrawableHelper.fill(matrices, colorPreviewDim.x(), colorPreviewDim.y(), colorPreviewDim.xLimit(), colorPreviewDim.yLimit(), colorController.option().pendingValue().getRGB());
-            drawOutline(matrices, colorPreviewDim.x(), colorPreviewDim.y(), colorPreviewDim.xLimit(), colorPreviewDim.yLimit(), 1, 0xFF000000);
+            IntDimension colorPreviewDim = IntDimension.of(this.colorPreviewDim);
+            int x1 = colorPreviewDim.getX() + previewOffset;
+            int x2 = colorPreviewDim.getXLimit() + previewOffset;
+            QuadRenderer.get().fill(matrices, x1, colorPreviewDim.getY(), x2, colorPreviewDim.getYLimit(), colorController.option().pendingValue().getRGB());
+            drawOutline(matrices, x1, colorPreviewDim.getY(), x2, colorPreviewDim.getYLimit(), 1, 0xFF000000);
         }
 
         @Override
@@ -175,8 +181,9 @@ public class ColorController implements IStringController<Color> {
         public void setDimension(Dimension<Integer> dim) {
             super.setDimension(dim);
 
-            int previewSize = (dim.height() - getYPadding() * 2) / 2;
-            colorPreviewDim = Dimension.ofInt(dim.xLimit() - getXPadding() - previewSize, dim.centerY() - previewSize / 2, previewSize, previewSize);
+            IntDimension intDim = getIntDimension();
+            int previewSize = (intDim.getHeight() - getYPadding() * 2) / 2;
+            colorPreviewDim = IntDimension.of(intDim.getXLimit() - getXPadding() - previewSize, intDim.getCenterY() - previewSize / 2, previewSize, previewSize);
         }
 
         @Override
@@ -1,19 +1,28 @@
 package dev.isxander.yacl.gui.controllers;
 
 import dev.isxander.yacl.api.Controller;
+import dev.isxander.yacl.api.Option;
 import dev.isxander.yacl.api.utils.Dimension;
+import dev.isxander.yacl.api.utils.IntDimension;
 import dev.isxander.yacl.gui.AbstractWidget;
+import dev.isxander.yacl.gui.QuadRenderer;
 import dev.isxander.yacl.gui.YACLScreen;
+import dev.isxander.yacl.impl.AbstractOptionImpl;
 import net.minecraft.client.font.MultilineText;
-import net.minecraft.client.gui.DrawableHelper;
 import net.minecraft.client.gui.screen.narration.NarrationMessageBuilder;
+import net.minecraft.client.resource.language.LanguageDefinition;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 
+import java.lang.ref.WeakReference;
+
 public abstract class ControllerWidget<T extends Controller<?>> extends AbstractWidget {
     protected final T control;
     protected MultilineText wrappedTooltip;
+    private Text wrappedTooltipSource;
+    private int wrappedTooltipWidth;
+    private LanguageDefinition wrappedTooltipLanguage;
     protected final YACLScreen screen;
 
     protected boolean focused = false;
@@ -22,36 +31,57 @@ public abstract class ControllerWidget<T extends Controller<?>> extends Abstract
     protected final Text modifiedOptionName;
     protected final String optionNameString;
 
+    private Text shortenedName;
+    private Text shortenedNameSource;
+    private int shortenedNameMaxWidth;
+
+    private final Runnable valueTextInvalidator = this::invalidateValueText;
+    private Text valueText;
+    private LanguageDefinition valueTextLanguage;
+    private Text measuredValueText;
+    private int valueTextWidth;
+
     public ControllerWidget(T control, YACLScreen screen, Dimension<Integer> dim) {
         super(dim);
         this.control = control;
         this.screen = screen;
-        control.option().addListener((opt, pending) -> updateTooltip());
-        updateTooltip();
+        // the impl can notify without boxing the pending value and remove the listener once disposed
+        if (control.option() instanceof AbstractOptionImpl<?> option)
+            option.addPendingValueListener(valueTextInvalidator);
+        else
+            addWeakListener(control.option(), this);
         this.modifiedOptionName = control.option().name().copy().formatted(Formatting.ITALIC);
         this.optionNameString = control.option().name().getString().toLowerCase();
     }
 
+    /**
+     * Other options can't remove listeners, so the listener only holds the widget weakly to let it be collected.
+     */
+    private static void addWeakListener(Option<?> option, ControllerWidget<?> widget) {
+        WeakReference<ControllerWidget<?>> widgetRef = new WeakReference<>(widget);
+        option.addListener((opt, pending) -> {
+            ControllerWidget<?> listeningWidget = widgetRef.get();
+            if (listeningWidget != null)
+                listeningWidget.invalidateValueText();
+        });
+    }
+
+    @Override
+    public void dispose() {
+        if (control.option() instanceof AbstractOptionImpl<?> option)
+            option.removePendingValueListener(valueTextInvalidator);
+    }
+
     @Override
     public void render(MatrixStack matrices, int mouseX, int mouseY, float delta) {
         hovered = isMouseOver(mouseX, mouseY);
 
-        Text name = control.option().changed() ? modifiedOptionName : control.option().name();
-        String nameString = name.getString();
-
-        boolean firstIter = true;
-        while (textRenderer.getWidth(nameString) > dim.width() - getControlWidth() - getXPadding() - 7) {
-            nameString = nameString.substring(0, Math.max(nameString.length() - (firstIter ? 2 : 5), 0)).trim();
-            nameString += "...";
-
-            firstIter = false;
-        }
-
-        Text shortenedName = Text.literal(nameString).fillStyle(name.getStyle());
+        Text shortenedName = getShortenedName();
 
-        drawButtonRect(matrices, dim.x(), dim.y(), dim.xLimit(), dim.yLimit(), isHovered(), isAvailable());
+        IntDimension dim = getIntDimension();
+        drawButtonRect(matrices, dim.getX(), dim.getY(), dim.getXLimit(), dim.getYLimit(), isHovered(), isAvailable());
         matrices.push();
-        matrices.translate(dim.x() + getXPadding(), getTextY(), 0);
+        matrices.translate(dim.getX() + getXPadding(), getTextY(), 0);
         textRenderer.drawWithShadow(matrices, shortenedName, 0, 0, getValueColor());
         matrices.pop();
 
@@ -61,10 +91,44 @@ public abstract class ControllerWidget<T extends Controller<?>> extends Abstract
         }
     }
 
+    /**
+     * Gets the option name, cut off with an ellipsis to fit beside the control.
+     * Only recalculated when the name, its changed state or the available width changes.
+     */
+    protected Text getShortenedName() {
+        Text name = control.option().changed() ? modifiedOptionName : control.option().name();
+        int maxWidth = getIntDimension().getWidth() - getControlWidth() - getXPadding() - 7;
+
+        if (shortenedName == null || shortenedNameSource != name || shortenedNameMaxWidth != maxWidth) {
+            String nameString = name.getString();
+
+            if (textRenderer.getWidth(nameString) > maxWidth) {
+                // find the longest prefix that still fits once the ellipsis is added
+                int low = 0;
+                int high = nameString.length() - 1;
+                while (low < high) {
+                    int mid = (low + high + 1) >>> 1;
+                    if (textRenderer.getWidth(nameString.substring(0, mid).trim() + "...") <= maxWidth)
+                        low = mid;
+                    else
+                        high = mid - 1;
+                }
+                nameString = nameString.substring(0, low).trim() + "...";
+            }
+
+            shortenedName = Text.literal(nameString).fillStyle(name.getStyle());
+            shortenedNameSource = name;
+            shortenedNameMaxWidth = maxWidth;
+        }
+
+        return shortenedName;
+    }
+
     @Override
     public void postRender(MatrixStack matrices, int mouseX, int mouseY, float delta) {
         if (hovered) {
-            YACLScreen.renderMultilineTooltip(matrices, textRenderer, wrappedTooltip, dim.centerX(), dim.y() - 5, dim.yLimit() + 5, screen.width, screen.height);
+            IntDimension dim = getIntDimension();
+            YACLScreen.renderMultilineTooltip(matrices, textRenderer, getWrappedTooltip(), dim.getCenterX(), dim.getY() - 5, dim.getYLimit() + 5, screen.width, screen.height);
         }
     }
 
@@ -75,7 +139,7 @@ public abstract class ControllerWidget<T extends Controller<?>> extends Abstract
     protected void drawValueText(MatrixStack matrices, int mouseX, int mouseY, float delta) {
         Text valueText = getValueText();
         matrices.push();
-        matrices.translate(dim.xLimit() - textRenderer.getWidth(valueText) - getXPadding(), getTextY(), 0);
+        matrices.translate(getIntDimension().getXLimit() - getValueTextWidth() - getXPadding(), getTextY(), 0);
         textRenderer.drawWithShadow(matrices, valueText, 0, 0, getValueColor());
         matrices.pop();
     }
@@ -83,11 +147,25 @@ public abstract class ControllerWidget<T extends Controller<?>> extends Abstract
     @Override
     public boolean isMouseOver(double mouseX, double mouseY) {
         if (dim == null) return false;
-        return this.dim.isPointInside((int) mouseX, (int) mouseY);
+        return getIntDimension().isPointInside((int) mouseX, (int) mouseY);
     }
 
-    private void updateTooltip() {
-        this.wrappedTooltip = MultilineText.create(textRenderer, control.option().tooltip(), screen.width / 3 * 2 - 10);
+    /**
+     * Gets the option's tooltip wrapped to fit the screen.
+     * Only wrapped when rendered, and again once the tooltip, screen width or language changes.
+     */
+    protected MultilineText getWrappedTooltip() {
+        Text tooltip = control.option().tooltip();
+        int maxWidth = screen.width / 3 * 2 - 10;
+        LanguageDefinition language = client.getLanguageManager().getLanguage();
+
+        if (wrappedTooltip == null || tooltip != wrappedTooltipSource || maxWidth != wrappedTooltipWidth || language != wrappedTooltipLanguage) {
+            wrappedTooltip = MultilineText.create(textRenderer, tooltip, maxWidth);
+            wrappedTooltipSource = tooltip;
+            wrappedTooltipWidth = maxWidth;
+            wrappedTooltipLanguage = language;
+        }
+        return wrappedTooltip;
     }
 
     protected int getControlWidth() {
@@ -101,7 +179,7 @@ public abstract class ControllerWidget<T extends Controller<?>> extends Abstract
     protected abstract int getHoveredControlWidth();
 
     protected int getUnhoveredControlWidth() {
-        return textRenderer.getWidth(getValueText());
+        return getValueTextWidth();
     }
 
     protected int getXPadding() {
@@ -112,8 +190,37 @@ public abstract class ControllerWidget<T extends Controller<?>> extends Abstract
         return 2;
     }
 
+    /**
+     * Gets the formatted pending value of the option.
+     * The result is cached until the pending value or the game language changes.
+     */
     protected Text getValueText() {
-        return control.formatValue();
+        LanguageDefinition language = client.getLanguageManager().getLanguage();
+        if (valueText == null || language != valueTextLanguage) {
+            valueText = control.formatValue();
+            valueTextLanguage = language;
+        }
+        return valueText;
+    }
+
+    /**
+     * Gets the rendered width of {@link ControllerWidget#getValueText()},
+     * only measured again when the value text changes.
+     */
+    protected int getValueTextWidth() {
+        Text text = getValueText();
+        if (text != measuredValueText) {
+            measuredValueText = text;
+            valueTextWidth = textRenderer.getWidth(text);
+        }
+        return valueTextWidth;
+    }
+
+    /**
+     * Discards the cached value text so it is formatted again next time it is needed.
+     */
+    protected void invalidateValueText() {
+        valueText = null;
     }
 
     protected boolean isAvailable() {
@@ -125,14 +232,15 @@ public abstract class ControllerWidget<T extends Controller<?>> extends Abstract
     }
 
     protected void drawOutline(MatrixStack matrices, int x1, int y1, int x2, int y2, int width, int color) {
-        DrawableHelper.fill(matrices, x1, y1, x2, y1 + width, color);
-        DrawableHelper.fill(matrices, x2, y1, x2 - width, y2, color);
-        DrawableHelper.fill(matrices, x1, y2, x2, y2 - width, color);
-        DrawableHelper.fill(matrices, x1, y1, x1 + width, y2, color);
+        QuadRenderer.get().fill(matrices, x1, y1, x2, y1 + width, color);
+        QuadRenderer.get().fill(matrices, x2, y1, x2 - width, y2, color);
+        QuadRenderer.get().fill(matrices, x1, y2, x2, y2 - width, color);
+        QuadRenderer.get().fill(matrices, x1, y1, x1 + width, y2, color);
     }
 
     protected float getTextY() {
-        return dim.y() + dim.height() / 2f - textRenderer.fontHeight / 2f;
+        IntDimension dim = getIntDimension();
+        return dim.getY() + dim.getHeight() / 2f - textRenderer.fontHeight / 2f;
     }
 
     @Override
@@ -3,9 +3,11 @@ package dev.isxander.yacl.gui.controllers;
 import dev.isxander.yacl.api.Controller;
 import dev.isxander.yacl.api.Option;
 import dev.isxander.yacl.api.utils.Dimension;
+import dev.isxander.yacl.api.utils.IntDimension;
 import dev.isxander.yacl.gui.AbstractWidget;
 import dev.isxander.yacl.gui.YACLScreen;
 import net.minecraft.client.font.MultilineText;
+import net.minecraft.client.resource.language.LanguageDefinition;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.text.Text;
 import org.jetbrains.annotations.ApiStatus;
@@ -46,6 +48,9 @@ public class LabelController implements Controller<Text> {
 
     public class LabelControllerElement extends AbstractWidget {
         private MultilineText wrappedText;
+        private Text wrappedSource;
+        private LanguageDefinition wrappedLanguage;
+        private int wrappedWidth;
 
         public LabelControllerElement(Dimension<Integer> dim) {
             super(dim);
@@ -54,9 +59,12 @@ public class LabelController implements Controller<Text> {
 
         @Override
         public void render(MatrixStack matrices, int mouseX, int mouseY, float delta) {
-            updateText();
+            // line breaking is expensive, only redo it when the result would be different
+            IntDimension dim = getIntDimension();
+            if (formatValue() != wrappedSource || dim.getWidth() != wrappedWidth || client.getLanguageManager().getLanguage() != wrappedLanguage)
+                updateText();
 
-            wrappedText.drawWithShadow(matrices, dim.x(), dim.y() + getYPadding(), textRenderer.fontHeight, option().available() ? -1 : 0xFFA0A0A0);
+            wrappedText.drawWithShadow(matrices, dim.getX(), dim.getY() + getYPadding(), textRenderer.fontHeight, option().available() ? -1 : 0xFFA0A0A0);
         }
 
         private int getYPadding() {
@@ -64,13 +72,12 @@ public class LabelController implements Controller<Text> {
         }
 
         private void updateText() {
-            wrappedText = MultilineText.create(textRenderer, formatValue(), dim.width());
-            dim.setHeight(wrappedText.count() * textRenderer.fontHeight + getYPadding() * 2);
-        }
+            wrappedSource = formatValue();
+            wrappedWidth = getIntDimension().getWidth();
+            wrappedLanguage = client.getLanguageManager().getLanguage();
 
-        @Override
-        public boolean matchesSearch(String query) {
-            return formatValue().getString().toLowerCase().contains(query.toLowerCase());
+            wrappedText = MultilineText.create(textRenderer, wrappedSource, wrappedWidth);
+            dim.setHeight(wrappedText.count() * textRenderer.fontHeight + getYPadding() * 2);
         }
     }
 }
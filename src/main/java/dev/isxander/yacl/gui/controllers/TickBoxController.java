@@ -3,9 +3,10 @@ package dev.isxander.yacl.gui.controllers;
 import dev.isxander.yacl.api.Controller;
 import dev.isxander.yacl.api.Option;
 import dev.isxander.yacl.api.utils.Dimension;
+import dev.isxander.yacl.api.utils.IntDimension;
 import dev.isxander.yacl.gui.AbstractWidget;
+import dev.isxander.yacl.gui.QuadRenderer;
 import dev.isxander.yacl.gui.YACLScreen;
-import net.minecraft.client.gui.DrawableHelper;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.text.Text;
 import org.jetbrains.annotations.ApiStatus;
@@ -57,11 +58,12 @@ public class TickBoxController implements Controller<Boolean> {
 
         @Override
         protected void drawHoveredControl(MatrixStack matrices, int mouseX, int mouseY, float delta) {
+            IntDimension dim = getIntDimension();
             int outlineSize = 10;
-            int outlineX1 = dim.xLimit() - getXPadding() - outlineSize;
-            int outlineY1 = dim.centerY() - outlineSize / 2;
-            int outlineX2 = dim.xLimit() - getXPadding();
-            int outlineY2 = dim.centerY() + outlineSize / 2;
+            int outlineX1 = dim.getXLimit() - getXPadding() - outlineSize;
+            int outlineY1 = dim.getCenterY() - outlineSize / 2;
+            int outlineX2 = dim.getXLimit() - getXPadding();
+            int outlineY2 = dim.getCenterY() + outlineSize / 2;
 
             int color = getValueColor();
             int shadowColor = multiplyColor(color, 0.25f);
@@ -69,8 +71,8 @@ public class TickBoxController implements Controller<Boolean> {
             drawOutline(matrices, outlineX1 + 1, outlineY1 + 1, outlineX2 + 1, outlineY2 + 1, 1, shadowColor);
             drawOutline(matrices, outlineX1, outlineY1, outlineX2, outlineY2, 1, color);
             if (control.option().pendingValue()) {
-                DrawableHelper.fill(matrices, outlineX1 + 3, outlineY1 + 3, outlineX2 - 1, outlineY2 - 1, shadowColor);
-                DrawableHelper.fill(matrices, outlineX1 + 2, outlineY1 + 2, outlineX2 - 2, outlineY2 - 2, color);
+                QuadRenderer.get().fill(matrices, outlineX1 + 3, outlineY1 + 3, outlineX2 - 1, outlineY2 - 1, shadowColor);
+                QuadRenderer.get().fill(matrices, outlineX1 + 2, outlineY1 + 2, outlineX2 - 2, outlineY2 - 2, color);
             }
         }
 
@@ -1,5 +1,6 @@
 package dev.isxander.yacl.gui.controllers.slider;
 
+import dev.isxander.yacl.api.DoubleOption;
 import dev.isxander.yacl.api.Option;
 import net.minecraft.text.Text;
 import org.apache.commons.lang3.Validate;
@@ -100,7 +101,10 @@ public class DoubleSliderController implements ISliderController<Double> {
      */
     @Override
     public void setPendingValue(double value) {
-        option().requestSet(value);
+        if (option instanceof DoubleOption doubleOption)
+            doubleOption.requestSetDouble(value);
+        else
+            option().requestSet(value);
     }
 
     /**
@@ -108,6 +112,8 @@ public class DoubleSliderController implements ISliderController<Double> {
      */
     @Override
     public double pendingValue() {
+        if (option instanceof DoubleOption doubleOption)
+            return doubleOption.pendingDouble();
         return option().pendingValue();
     }
 
@@ -1,5 +1,6 @@
 package dev.isxander.yacl.gui.controllers.slider;
 
+import dev.isxander.yacl.api.FloatOption;
 import dev.isxander.yacl.api.Option;
 import net.minecraft.text.Text;
 import org.apache.commons.lang3.Validate;
@@ -100,7 +101,10 @@ public class FloatSliderController implements ISliderController<Float> {
      */
     @Override
     public void setPendingValue(double value) {
-        option().requestSet((float) value);
+        if (option instanceof FloatOption floatOption)
+            floatOption.requestSetFloat((float) value);
+        else
+            option().requestSet((float) value);
     }
 
     /**
@@ -108,6 +112,8 @@ public class FloatSliderController implements ISliderController<Float> {
      */
     @Override
     public double pendingValue() {
+        if (option instanceof FloatOption floatOption)
+            return floatOption.pendingFloat();
         return option().pendingValue();
     }
 
@@ -1,5 +1,6 @@
 package dev.isxander.yacl.gui.controllers.slider;
 
+import dev.isxander.yacl.api.IntOption;
 import dev.isxander.yacl.api.Option;
 import net.minecraft.text.Text;
 import org.apache.commons.lang3.Validate;
@@ -97,7 +98,10 @@ public class IntegerSliderController implements ISliderController<Integer> {
      */
     @Override
     public void setPendingValue(double value) {
-        option().requestSet((int) value);
+        if (option instanceof IntOption intOption)
+            intOption.requestSetInt((int) value);
+        else
+            option().requestSet((int) value);
     }
 
     /**
@@ -105,6 +109,8 @@ public class IntegerSliderController implements ISliderController<Integer> {
      */
     @Override
     public double pendingValue() {
+        if (option instanceof IntOption intOption)
+            return intOption.pendingInt();
         return option().pendingValue();
     }
 
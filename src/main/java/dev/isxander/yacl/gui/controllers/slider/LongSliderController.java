@@ -1,5 +1,6 @@
 package dev.isxander.yacl.gui.controllers.slider;
 
+import dev.isxander.yacl.api.LongOption;
 import dev.isxander.yacl.api.Option;
 import net.minecraft.text.Text;
 import org.apache.commons.lang3.Validate;
@@ -97,7 +98,10 @@ public class LongSliderController implements ISliderController<Long> {
      */
     @Override
     public void setPendingValue(double value) {
-        option().requestSet((long) value);
+        if (option instanceof LongOption longOption)
+            longOption.requestSetLong((long) value);
+        else
+            option().requestSet((long) value);
     }
 
     /**
@@ -105,6 +109,8 @@ public class LongSliderController implements ISliderController<Long> {
      */
     @Override
     public double pendingValue() {
+        if (option instanceof LongOption longOption)
+            return longOption.pendingLong();
         return option().pendingValue();
     }
 
@@ -1,9 +1,10 @@
 package dev.isxander.yacl.gui.controllers.slider;
 
 import dev.isxander.yacl.api.utils.Dimension;
+import dev.isxander.yacl.api.utils.IntDimension;
+import dev.isxander.yacl.gui.QuadRenderer;
 import dev.isxander.yacl.gui.YACLScreen;
 import dev.isxander.yacl.gui.controllers.ControllerWidget;
-import net.minecraft.client.gui.DrawableHelper;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.util.math.MathHelper;
@@ -14,9 +15,11 @@ public class SliderControllerElement extends ControllerWidget<ISliderController<
 
     private float interpolation;
 
-    private Dimension<Integer> sliderBounds;
+    private IntDimension sliderBounds;
 
     private boolean mouseDown = false;
+    /** Latest drag position not yet applied to the option, or NaN. */
+    private double pendingDragX = Double.NaN;
 
     public SliderControllerElement(ISliderController<?> option, YACLScreen screen, Dimension<Integer> dim, double min, double max, double interval) {
         super(option, screen, dim);
@@ -28,6 +31,8 @@ public class SliderControllerElement extends ControllerWidget<ISliderController<
 
     @Override
     public void render(MatrixStack matrices, int mouseX, int mouseY, float delta) {
+        applyPendingDrag();
+
         super.render(matrices, mouseX, mouseY, delta);
 
         calculateInterpolation();
@@ -36,21 +41,21 @@ public class SliderControllerElement extends ControllerWidget<ISliderController<
     @Override
     protected void drawHoveredControl(MatrixStack matrices, int mouseX, int mouseY, float delta) {
         // track
-        DrawableHelper.fill(matrices, sliderBounds.x(), sliderBounds.centerY() - 1, sliderBounds.xLimit(), sliderBounds.centerY(), -1);
+        QuadRenderer.get().fill(matrices, sliderBounds.getX(), sliderBounds.getCenterY() - 1, sliderBounds.getXLimit(), sliderBounds.getCenterY(), -1);
         // track shadow
-        DrawableHelper.fill(matrices, sliderBounds.x() + 1, sliderBounds.centerY(), sliderBounds.xLimit() + 1, sliderBounds.centerY() + 1, 0xFF404040);
+        QuadRenderer.get().fill(matrices, sliderBounds.getX() + 1, sliderBounds.getCenterY(), sliderBounds.getXLimit() + 1, sliderBounds.getCenterY() + 1, 0xFF404040);
 
         // thumb shadow
-        DrawableHelper.fill(matrices, getThumbX() - getThumbWidth() / 2 + 1, sliderBounds.y() + 1, getThumbX() + getThumbWidth() / 2 + 1, sliderBounds.yLimit() + 1, 0xFF404040);
+        QuadRenderer.get().fill(matrices, getThumbX() - getThumbWidth() / 2 + 1, sliderBounds.getY() + 1, getThumbX() + getThumbWidth() / 2 + 1, sliderBounds.getYLimit() + 1, 0xFF404040);
         // thumb
-        DrawableHelper.fill(matrices, getThumbX() - getThumbWidth() / 2, sliderBounds.y(), getThumbX() + getThumbWidth() / 2, sliderBounds.yLimit(), -1);
+        QuadRenderer.get().fill(matrices, getThumbX() - getThumbWidth() / 2, sliderBounds.getY(), getThumbX() + getThumbWidth() / 2, sliderBounds.getYLimit(), -1);
     }
 
     @Override
     protected void drawValueText(MatrixStack matrices, int mouseX, int mouseY, float delta) {
         matrices.push();
         if (isHovered())
-            matrices.translate(-(sliderBounds.width() + 6 + getThumbWidth() / 2f), 0, 0);
+            matrices.translate(-(sliderBounds.getWidth() + 6 + getThumbWidth() / 2f), 0, 0);
         super.drawValueText(matrices, mouseX, mouseY, delta);
         matrices.pop();
     }
@@ -71,7 +76,8 @@ public class SliderControllerElement extends ControllerWidget<ISliderController<
         if (!isAvailable() || button != 0 || !mouseDown)
             return false;
 
-        setValueFromMouse(mouseX);
+        // mouse events can arrive many times per frame, only the latest is applied when rendering
+        pendingDragX = mouseX;
         return true;
     }
 
@@ -91,6 +97,7 @@ public class SliderControllerElement extends ControllerWidget<ISliderController<
 
     @Override
     public boolean mouseReleased(double mouseX, double mouseY, int button) {
+        applyPendingDrag();
         if (isAvailable() && mouseDown)
             playDownSound();
         mouseDown = false;
@@ -120,18 +127,30 @@ public class SliderControllerElement extends ControllerWidget<ISliderController<
     }
 
     protected void setValueFromMouse(double mouseX) {
-        double value = (mouseX - sliderBounds.x()) / sliderBounds.width() * control.range();
-        control.setPendingValue(roundToInterval(value));
+        double value = roundToInterval((mouseX - sliderBounds.getX()) / sliderBounds.getWidth() * control.range());
+        if (value != control.pendingValue())
+            control.setPendingValue(value);
         calculateInterpolation();
     }
 
+    /**
+     * Applies the latest drag position, if the mouse moved since the last frame.
+     */
+    protected void applyPendingDrag() {
+        if (!Double.isNaN(pendingDragX)) {
+            double mouseX = pendingDragX;
+            pendingDragX = Double.NaN;
+            setValueFromMouse(mouseX);
+        }
+    }
+
     protected double roundToInterval(double value) {
         return MathHelper.clamp(min + (interval * Math.round(value / interval)), min, max); // extremely imprecise, requires clamping
     }
 
     @Override
     protected int getHoveredControlWidth() {
-        return sliderBounds.width() + getUnhoveredControlWidth() + 6 + getThumbWidth() / 2;
+        return sliderBounds.getWidth() + getUnhoveredControlWidth() + 6 + getThumbWidth() / 2;
     }
 
     protected void calculateInterpolation() {
@@ -141,11 +160,12 @@ public class SliderControllerElement extends ControllerWidget<ISliderController<
     @Override
     public void setDimension(Dimension<Integer> dim) {
         super.setDimension(dim);
-        sliderBounds = Dimension.ofInt(dim.xLimit() - getXPadding() - getThumbWidth() / 2 - dim.width() / 3, dim.centerY() - 5, dim.width() / 3, 10);
+        IntDimension intDim = getIntDimension();
+        sliderBounds = IntDimension.of(intDim.getXLimit() - getXPadding() - getThumbWidth() / 2 - intDim.getWidth() / 3, intDim.getCenterY() - 5, intDim.getWidth() / 3, 10);
     }
 
     protected int getThumbX() {
-        return (int) (sliderBounds.x() + sliderBounds.width() * interpolation);
+        return (int) (sliderBounds.getX() + sliderBounds.getWidth() * interpolation);
     }
 
     protected int getThumbWidth() {
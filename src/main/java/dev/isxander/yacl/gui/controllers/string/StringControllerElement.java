@@ -1,9 +1,10 @@
 package dev.isxander.yacl.gui.controllers.string;
 
 import dev.isxander.yacl.api.utils.Dimension;
+import dev.isxander.yacl.api.utils.IntDimension;
+import dev.isxander.yacl.gui.QuadRenderer;
 import dev.isxander.yacl.gui.YACLScreen;
 import dev.isxander.yacl.gui.controllers.ControllerWidget;
-import net.minecraft.client.gui.DrawableHelper;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.text.Text;
@@ -21,6 +22,7 @@ public class StringControllerElement extends ControllerWidget<IStringController<
     protected float ticks;
 
     private final Text emptyText;
+    private Text inputFieldBoundsText;
 
     public StringControllerElement(IStringController<?> control, YACLScreen screen, Dimension<Integer> dim) {
         super(control, screen, dim);
@@ -31,37 +33,46 @@ public class StringControllerElement extends ControllerWidget<IStringController<
         setDimension(dim);
     }
 
+    @Override
+    public void render(MatrixStack matrices, int mouseX, int mouseY, float delta) {
+        if (getValueText() != inputFieldBoundsText)
+            updateInputFieldBounds();
+        super.render(matrices, mouseX, mouseY, delta);
+    }
+
     @Override
     protected void drawHoveredControl(MatrixStack matrices, int mouseX, int mouseY, float delta) {
         ticks += delta;
+        IntDimension inputFieldBounds = getInputFieldBounds();
 
-        DrawableHelper.fill(matrices, inputFieldBounds.x(), inputFieldBounds.yLimit(), inputFieldBounds.xLimit(), inputFieldBounds.yLimit() + 1, -1);
-        DrawableHelper.fill(matrices, inputFieldBounds.x() + 1, inputFieldBounds.yLimit() + 1, inputFieldBounds.xLimit() + 1, inputFieldBounds.yLimit() + 2, 0xFF404040);
+        QuadRenderer.get().fill(matrices, inputFieldBounds.getX(), inputFieldBounds.getYLimit(), inputFieldBounds.getXLimit(), inputFieldBounds.getYLimit() + 1, -1);
+        QuadRenderer.get().fill(matrices, inputFieldBounds.getX() + 1, inputFieldBounds.getYLimit() + 1, inputFieldBounds.getXLimit() + 1, inputFieldBounds.getYLimit() + 2, 0xFF404040);
 
         if (inputFieldFocused || focused) {
-            int caretX = inputFieldBounds.x() + textRenderer.getWidth(control.getString().substring(0, caretPos)) - 1;
+            int caretX = inputFieldBounds.getX() + textRenderer.getWidth(control.getString().substring(0, caretPos)) - 1;
             if (inputField.isEmpty())
-                caretX += inputFieldBounds.width() / 2;
+                caretX += inputFieldBounds.getWidth() / 2;
 
             if (ticks % 20 <= 10) {
-                DrawableHelper.fill(matrices, caretX, inputFieldBounds.y(), caretX + 1, inputFieldBounds.yLimit(), -1);
+                QuadRenderer.get().fill(matrices, caretX, inputFieldBounds.getY(), caretX + 1, inputFieldBounds.getYLimit(), -1);
             }
 
             if (selectionLength != 0) {
-                int selectionX = inputFieldBounds.x() + textRenderer.getWidth(control.getString().substring(0, caretPos + selectionLength));
-                DrawableHelper.fill(matrices, caretX, inputFieldBounds.y() - 1, selectionX, inputFieldBounds.yLimit(), 0x803030FF);
+                int selectionX = inputFieldBounds.getX() + textRenderer.getWidth(control.getString().substring(0, caretPos + selectionLength));
+                QuadRenderer.get().fill(matrices, caretX, inputFieldBounds.getY() - 1, selectionX, inputFieldBounds.getYLimit(), 0x803030FF);
             }
         }
     }
 
     @Override
     public boolean mouseClicked(double mouseX, double mouseY, int button) {
+        IntDimension inputFieldBounds = getInputFieldBounds();
         if (isAvailable() && inputFieldBounds.isPointInside((int) mouseX, (int) mouseY)) {
             if (!inputFieldFocused) {
                 inputFieldFocused = true;
                 caretPos = getDefaultCarotPos();
             } else {
-                int textWidth = (int) mouseX - inputFieldBounds.x();
+                int textWidth = (int) mouseX - inputFieldBounds.getX();
                 caretPos = textRenderer.trimToWidth(control.getString(), textWidth).length();
                 selectionLength = 0;
             }
@@ -205,7 +216,7 @@ public class StringControllerElement extends ControllerWidget<IStringController<
     }
 
     public int getMaxLength() {
-        return dim.width() / 8 * 7;
+        return getIntDimension().getWidth() / 8 * 7;
     }
 
     public int getSelectionStart() {
@@ -254,9 +265,29 @@ public class StringControllerElement extends ControllerWidget<IStringController<
     @Override
     public void setDimension(Dimension<Integer> dim) {
         super.setDimension(dim);
+        updateInputFieldBounds();
+    }
+
+    /**
+     * The input field grows with its text, so its bounds are refreshed in place
+     * whenever the value text changes.
+     */
+    protected void updateInputFieldBounds() {
+        inputFieldBoundsText = getValueText();
+        int width = Math.max(6, getValueTextWidth());
+        int x = getIntDimension().getXLimit() - getXPadding() - width;
+        int y = getIntDimension().getCenterY() - textRenderer.fontHeight / 2;
+        if (inputFieldBounds instanceof IntDimension bounds)
+            bounds.setX(x).setY(y).setWidth(width);
+        else
+            inputFieldBounds = IntDimension.of(x, y, width, textRenderer.fontHeight);
+    }
 
-        int width = Math.max(6, textRenderer.getWidth(getValueText()));
-        inputFieldBounds = Dimension.ofInt(dim.xLimit() - getXPadding() - width, dim.centerY() - textRenderer.fontHeight / 2, width, textRenderer.fontHeight);
+    /**
+     * Gets {@link #inputFieldBounds} with primitive accessors, without copying it unless a subclass replaced it.
+     */
+    protected IntDimension getInputFieldBounds() {
+        return IntDimension.of(inputFieldBounds);
     }
 
     @Override
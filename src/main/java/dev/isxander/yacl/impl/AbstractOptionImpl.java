@@ -0,0 +1,261 @@
+package dev.isxander.yacl.impl;
+
+import com.google.common.collect.ImmutableSet;
+import dev.isxander.yacl.api.Binding;
+import dev.isxander.yacl.api.Controller;
+import dev.isxander.yacl.api.Option;
+import dev.isxander.yacl.api.OptionFlag;
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Everything an {@link Option} does apart from storing its pending and committed values,
+ * so primitive options can store them unboxed.
+ * <p>
+ * Subclasses must take a snapshot and reset the pending value to it at the end of their constructor.
+ */
+@ApiStatus.Internal
+public abstract class AbstractOptionImpl<T> implements Option<T> {
+    /** Number of pending values to remember the tooltip of, enough to drag a slider back and forth. */
+    private static final int TOOLTIP_CACHE_SIZE = 8;
+
+    private final Text name;
+    private final Function<T, Text> tooltipGetter;
+    private final Map<T, Text> tooltipCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<T, Text> eldest) {
+            return size() > TOOLTIP_CACHE_SIZE;
+        }
+    };
+    private final Controller<T> controller;
+    private final Binding<T> binding;
+    private boolean available;
+
+    private final ImmutableSet<OptionFlag> flags;
+
+    private final Class<T> typeClass;
+
+    private final int instantBatchTicks;
+
+    private long snapshotVersion;
+
+    private final List<BiConsumer<Option<T>, T>> listeners;
+    private final List<Runnable> pendingValueListeners = new ArrayList<>();
+
+    private final List<Runnable> changedStateListeners = new ArrayList<>();
+    private boolean lastChangedState;
+
+    protected AbstractOptionImpl(
+            @NotNull Text name,
+            @Nullable Function<T, Text> tooltipGetter,
+            @NotNull Function<Option<T>, Controller<T>> controlGetter,
+            @NotNull Binding<T> binding,
+            boolean available,
+            ImmutableSet<OptionFlag> flags,
+            @NotNull Class<T> typeClass,
+            @NotNull Collection<BiConsumer<Option<T>, T>> listeners,
+            int instantBatchTicks
+    ) {
+        this.name = name;
+        this.tooltipGetter = tooltipGetter;
+        this.binding = binding;
+        this.available = available;
+        this.flags = flags;
+        this.typeClass = typeClass;
+        this.instantBatchTicks = instantBatchTicks;
+        this.listeners = new ArrayList<>(listeners);
+        this.controller = controlGetter.apply(this);
+    }
+
+    /**
+     * Reads the bound value into the committed value.
+     */
+    protected abstract void readSnapshot();
+
+    /**
+     * Checks if the pending value differs from the committed value, without refreshing it.
+     */
+    protected abstract boolean pendingDiffersFromSnapshot();
+
+    /**
+     * Writes the pending value to the binding.
+     */
+    protected abstract void writePendingValue();
+
+    /**
+     * Sets the pending value to the committed value.
+     */
+    protected abstract void resetPendingValue();
+
+    @Override
+    public @NotNull Text name() {
+        return name;
+    }
+
+    /**
+     * Gets the tooltip for the pending value.
+     * It is only computed when asked for, and the last few are remembered by pending value.
+     */
+    @Override
+    public @NotNull Text tooltip() {
+        if (tooltipGetter == null)
+            return Text.empty();
+
+        T pendingValue = pendingValue();
+        Text tooltip = tooltipCache.get(pendingValue);
+        if (tooltip == null) {
+            tooltip = tooltipGetter.apply(pendingValue);
+            tooltipCache.put(pendingValue, tooltip);
+        }
+        return tooltip;
+    }
+
+    @Override
+    public @NotNull Controller<T> controller() {
+        return controller;
+    }
+
+    @Override
+    public @NotNull Binding<T> binding() {
+        return binding;
+    }
+
+    @Override
+    public boolean available() {
+        return available;
+    }
+
+    @Override
+    public void setAvailable(boolean available) {
+        this.available = available;
+    }
+
+    @Override
+    public @NotNull Class<T> typeClass() {
+        return typeClass;
+    }
+
+    @Override
+    public @NotNull ImmutableSet<OptionFlag> flags() {
+        return flags;
+    }
+
+    @Override
+    public boolean requiresRestart() {
+        return flags.contains(OptionFlag.GAME_RESTART);
+    }
+
+    @Override
+    public boolean changed() {
+        if (binding.version() != snapshotVersion)
+            takeSnapshot();
+        return pendingDiffersFromSnapshot();
+    }
+
+    @Override
+    public boolean applyValue() {
+        if (changed()) {
+            writePendingValue();
+            takeSnapshot();
+            updateChangedState();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forgetPendingValue() {
+        takeSnapshot();
+        resetPendingValue();
+    }
+
+    @Override
+    public void requestSetDefault() {
+        requestSet(binding().defaultValue());
+    }
+
+    /**
+     * Gets the quiet period of a batched instant option, or -1 if it isn't one.
+     *
+     * @see Option.Builder#batchedInstant(int)
+     */
+    @ApiStatus.Internal
+    public int instantBatchTicks() {
+        return instantBatchTicks;
+    }
+
+    /**
+     * Adds a listener that is invoked whenever {@link Option#changed()} flips,
+     * as a result of modifying the pending value or applying it.
+     */
+    @ApiStatus.Internal
+    public void addChangedStateListener(Runnable listener) {
+        this.changedStateListeners.add(listener);
+    }
+
+    /**
+     * Adds a listener that is invoked whenever the pending value is set,
+     * without boxing it like {@link Option#addListener(BiConsumer)} would for primitive options.
+     */
+    @ApiStatus.Internal
+    public void addPendingValueListener(Runnable listener) {
+        this.pendingValueListeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addPendingValueListener(Runnable)}.
+     */
+    @ApiStatus.Internal
+    public void removePendingValueListener(Runnable listener) {
+        this.pendingValueListeners.remove(listener);
+    }
+
+    /**
+     * Re-reads the bound value, for when it may have been modified outside the GUI.
+     */
+    @ApiStatus.Internal
+    public void refreshSnapshot() {
+        takeSnapshot();
+        updateChangedState();
+    }
+
+    @Override
+    public void addListener(BiConsumer<Option<T>, T> changedListener) {
+        this.listeners.add(changedListener);
+    }
+
+    /**
+     * Notifies listeners after the pending value was set.
+     */
+    protected final void onPendingValueSet() {
+        if (!listeners.isEmpty()) {
+            T pendingValue = pendingValue();
+            listeners.forEach(listener -> listener.accept(this, pendingValue));
+        }
+        pendingValueListeners.forEach(Runnable::run);
+        updateChangedState();
+    }
+
+    protected final void takeSnapshot() {
+        snapshotVersion = binding.version();
+        readSnapshot();
+    }
+
+    private void updateChangedState() {
+        boolean changed = changed();
+        if (changed != lastChangedState) {
+            lastChangedState = changed;
+            changedStateListeners.forEach(Runnable::run);
+        }
+    }
+}
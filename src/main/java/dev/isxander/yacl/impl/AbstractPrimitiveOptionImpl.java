@@ -0,0 +1,70 @@
+package dev.isxander.yacl.impl;
+
+import com.google.common.collect.ImmutableSet;
+import dev.isxander.yacl.api.Binding;
+import dev.isxander.yacl.api.Controller;
+import dev.isxander.yacl.api.Option;
+import dev.isxander.yacl.api.OptionFlag;
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Base of the options that store a primitive without boxing.
+ * <p>
+ * {@link #binding()} is always the binding the option was built with.
+ * If it is the primitive specialization {@code B} it is read and written without boxing,
+ * otherwise its boxed methods are used when the option is applied or re-read.
+ *
+ * @param <B> primitive specialization of {@link Binding}, such as {@link Binding.OfInt}
+ * @param <L> primitive listener of the option, such as {@link dev.isxander.yacl.api.IntOption.Listener}
+ */
+@ApiStatus.Internal
+public abstract class AbstractPrimitiveOptionImpl<T, B extends Binding<T>, L> extends AbstractOptionImpl<T> {
+    /** The binding if it is the primitive specialization, null if it has to be boxed. */
+    protected final @Nullable B primitiveBinding;
+
+    private final List<L> primitiveListeners = new ArrayList<>();
+
+    protected AbstractPrimitiveOptionImpl(
+            @NotNull Text name,
+            @Nullable Function<T, Text> tooltipGetter,
+            @NotNull Function<Option<T>, Controller<T>> controlGetter,
+            @NotNull Binding<T> binding,
+            @NotNull Class<B> primitiveBindingClass,
+            boolean available,
+            ImmutableSet<OptionFlag> flags,
+            @NotNull Class<T> typeClass,
+            @NotNull Collection<BiConsumer<Option<T>, T>> listeners,
+            int instantBatchTicks
+    ) {
+        super(name, tooltipGetter, controlGetter, binding, available, flags, typeClass, listeners, instantBatchTicks);
+        this.primitiveBinding = primitiveBindingClass.isInstance(binding) ? primitiveBindingClass.cast(binding) : null;
+    }
+
+    /**
+     * Passes the pending value to the listener without boxing it.
+     */
+    protected abstract void notifyPrimitiveListener(L listener);
+
+    protected final void addPrimitiveListener(L listener) {
+        primitiveListeners.add(listener);
+    }
+
+    /**
+     * Notifies primitive and regular listeners after the pending value was set.
+     */
+    protected final void onPrimitiveValueSet() {
+        for (L listener : primitiveListeners) {
+            notifyPrimitiveListener(listener);
+        }
+        onPendingValueSet();
+    }
+}
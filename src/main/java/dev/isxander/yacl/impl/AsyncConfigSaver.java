@@ -0,0 +1,87 @@
+package dev.isxander.yacl.impl;
+
+import com.google.common.collect.ImmutableList;
+import com.mojang.logging.LogUtils;
+import dev.isxander.yacl.api.Option;
+import dev.isxander.yacl.api.OptionChange;
+import org.jetbrains.annotations.ApiStatus;
+import org.slf4j.Logger;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Runs a config's save function on a shared background thread.
+ * <p>
+ * Saves run one at a time. If a save is requested while another is still waiting to start,
+ * both requests share the waiting save, as it will write the latest state anyway.
+ * Their change sets are merged, keeping the oldest old value and the newest new value of each option.
+ */
+@ApiStatus.Internal
+public class AsyncConfigSaver {
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "YACL Config Saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Consumer<ImmutableList<OptionChange<?>>> saveFunction;
+    private CompletableFuture<Void> queuedSave;
+    private Map<Option<?>, OptionChange<?>> queuedChanges;
+
+    public AsyncConfigSaver(Consumer<ImmutableList<OptionChange<?>>> saveFunction) {
+        this.saveFunction = saveFunction;
+    }
+
+    /**
+     * Queues a save, or joins the save that is already waiting to run.
+     *
+     * @return future completed once the save function has run, or completed exceptionally if it threw
+     */
+    public synchronized CompletableFuture<Void> save(Collection<OptionChange<?>> changes) {
+        if (queuedSave != null) {
+            changes.forEach(this::mergeChange);
+            return queuedSave;
+        }
+
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        queuedSave = future;
+        queuedChanges = new LinkedHashMap<>();
+        changes.forEach(this::mergeChange);
+
+        EXECUTOR.execute(() -> {
+            ImmutableList<OptionChange<?>> mergedChanges;
+            synchronized (this) {
+                // any save requested from now on needs to write again
+                mergedChanges = ImmutableList.copyOf(queuedChanges.values());
+                queuedSave = null;
+                queuedChanges = null;
+            }
+
+            try {
+                saveFunction.accept(mergedChanges);
+                future.complete(null);
+            } catch (Throwable t) {
+                LOGGER.error("Failed to save config", t);
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void mergeChange(OptionChange<T> change) {
+        OptionChange<T> existing = (OptionChange<T>) queuedChanges.get(change.option());
+        if (existing == null)
+            queuedChanges.put(change.option(), change);
+        else
+            queuedChanges.put(change.option(), new OptionChange<>(change.option(), existing.oldValue(), change.newValue()));
+    }
+}
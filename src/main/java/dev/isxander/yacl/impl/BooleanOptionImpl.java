@@ -0,0 +1,99 @@
+package dev.isxander.yacl.impl;
+
+import com.google.common.collect.ImmutableSet;
+import dev.isxander.yacl.api.Binding;
+import dev.isxander.yacl.api.Controller;
+import dev.isxander.yacl.api.BooleanOption;
+import dev.isxander.yacl.api.Option;
+import dev.isxander.yacl.api.OptionFlag;
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+@ApiStatus.Internal
+public class BooleanOptionImpl extends AbstractPrimitiveOptionImpl<Boolean, Binding.OfBoolean, BooleanOption.Listener> implements BooleanOption {
+    private boolean pending;
+
+    private boolean snapshot;
+
+    public BooleanOptionImpl(
+            @NotNull Text name,
+            @Nullable Function<Boolean, Text> tooltipGetter,
+            @NotNull Function<Option<Boolean>, Controller<Boolean>> controlGetter,
+            @NotNull Binding<Boolean> binding,
+            boolean available,
+            ImmutableSet<OptionFlag> flags,
+            @NotNull Class<Boolean> typeClass,
+            @NotNull Collection<BiConsumer<Option<Boolean>, Boolean>> listeners,
+            int instantBatchTicks
+    ) {
+        super(name, tooltipGetter, controlGetter, binding, Binding.OfBoolean.class, available, flags, typeClass, listeners, instantBatchTicks);
+
+        takeSnapshot();
+        resetPendingValue();
+    }
+
+    @Override
+    public boolean pendingBoolean() {
+        return pending;
+    }
+
+    @Override
+    public @NotNull Boolean pendingValue() {
+        return pending;
+    }
+
+    @Override
+    public void requestSetBoolean(boolean value) {
+        pending = value;
+        onPrimitiveValueSet();
+    }
+
+    @Override
+    public void requestSet(Boolean value) {
+        requestSetBoolean(value);
+    }
+
+    @Override
+    public void requestSetDefault() {
+        requestSetBoolean(primitiveBinding != null ? primitiveBinding.defaultBoolean() : binding().defaultValue());
+    }
+
+    @Override
+    public void addBooleanListener(Listener listener) {
+        addPrimitiveListener(listener);
+    }
+
+    @Override
+    protected void notifyPrimitiveListener(Listener listener) {
+        listener.onChange(this, pending);
+    }
+
+    @Override
+    protected void readSnapshot() {
+        snapshot = primitiveBinding != null ? primitiveBinding.getBoolean() : binding().getValue();
+    }
+
+    @Override
+    protected boolean pendingDiffersFromSnapshot() {
+        return snapshot != pending;
+    }
+
+    @Override
+    protected void writePendingValue() {
+        if (primitiveBinding != null)
+            primitiveBinding.setBoolean(pending);
+        else
+            binding().setValue(pending);
+    }
+
+    @Override
+    protected void resetPendingValue() {
+        requestSetBoolean(snapshot);
+    }
+}
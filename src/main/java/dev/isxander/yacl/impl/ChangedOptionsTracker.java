@@ -0,0 +1,112 @@
+package dev.isxander.yacl.impl;
+
+import dev.isxander.yacl.api.ConfigCategory;
+import dev.isxander.yacl.api.Option;
+import dev.isxander.yacl.api.OptionGroup;
+import dev.isxander.yacl.api.YetAnotherConfigLib;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps a set of options that have pending changes so the GUI
+ * does not need to check every option to know if there is anything to save.
+ * <p>
+ * {@link AbstractOptionImpl}s report their own state changes, any other {@link Option}
+ * implementation is checked on demand.
+ * <p>
+ * Options of lazy categories are added once the category is built.
+ */
+@ApiStatus.Internal
+public class ChangedOptionsTracker {
+    /** Trackers of configs that aren't {@link YetAnotherConfigLibImpl}, so each config is only tracked once. */
+    private static final Map<YetAnotherConfigLib, ChangedOptionsTracker> EXTERNAL_TRACKERS = new WeakHashMap<>();
+
+    private final Set<Option<?>> changedOptions = new LinkedHashSet<>();
+    private final List<AbstractOptionImpl<?>> trackedOptions = new ArrayList<>();
+    private final List<Option<?>> untrackedOptions = new ArrayList<>();
+
+    public ChangedOptionsTracker(YetAnotherConfigLib config) {
+        for (ConfigCategory category : config.categories()) {
+            if (category instanceof LazyConfigCategoryImpl lazyCategory)
+                lazyCategory.addBuildListener(this::trackCategory);
+            else
+                trackCategory(category);
+        }
+    }
+
+    /**
+     * Gets the tracker of a config, creating it the first time if the config doesn't keep its own.
+     */
+    public static ChangedOptionsTracker of(YetAnotherConfigLib config) {
+        if (config instanceof YetAnotherConfigLibImpl impl)
+            return impl.changedOptions();
+
+        synchronized (EXTERNAL_TRACKERS) {
+            return EXTERNAL_TRACKERS.computeIfAbsent(config, ChangedOptionsTracker::new);
+        }
+    }
+
+    private synchronized void trackCategory(ConfigCategory category) {
+        for (OptionGroup group : category.groups()) {
+            for (Option<?> option : group.options()) {
+                if (option instanceof AbstractOptionImpl<?> optionImpl) {
+                    optionImpl.addChangedStateListener(() -> updateOption(option));
+                    trackedOptions.add(optionImpl);
+                    updateOption(option);
+                } else {
+                    untrackedOptions.add(option);
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if any option has a pending value that differs from its bound value.
+     */
+    public synchronized boolean hasChanges() {
+        if (!changedOptions.isEmpty())
+            return true;
+
+        for (Option<?> option : untrackedOptions) {
+            if (option.changed())
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets a snapshot of every option that currently has pending changes.
+     */
+    public synchronized List<Option<?>> getChangedOptions() {
+        List<Option<?>> options = new ArrayList<>(changedOptions);
+        for (Option<?> option : untrackedOptions) {
+            if (option.changed())
+                options.add(option);
+        }
+        return options;
+    }
+
+    /**
+     * Re-reads the bound value of every tracked option and re-checks its state.
+     * Needed if bound values were modified outside of the GUI.
+     */
+    public synchronized void rescan() {
+        for (AbstractOptionImpl<?> option : trackedOptions) {
+            option.refreshSnapshot();
+            updateOption(option);
+        }
+    }
+
+    private synchronized void updateOption(Option<?> option) {
+        if (option.changed())
+            changedOptions.add(option);
+        else
+            changedOptions.remove(option);
+    }
+}
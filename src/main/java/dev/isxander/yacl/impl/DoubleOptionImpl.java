@@ -0,0 +1,99 @@
+package dev.isxander.yacl.impl;
+
+import com.google.common.collect.ImmutableSet;
+import dev.isxander.yacl.api.Binding;
+import dev.isxander.yacl.api.Controller;
+import dev.isxander.yacl.api.DoubleOption;
+import dev.isxander.yacl.api.Option;
+import dev.isxander.yacl.api.OptionFlag;
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+@ApiStatus.Internal
+public class DoubleOptionImpl extends AbstractPrimitiveOptionImpl<Double, Binding.OfDouble, DoubleOption.Listener> implements DoubleOption {
+    private double pending;
+
+    private double snapshot;
+
+    public DoubleOptionImpl(
+            @NotNull Text name,
+            @Nullable Function<Double, Text> tooltipGetter,
+            @NotNull Function<Option<Double>, Controller<Double>> controlGetter,
+            @NotNull Binding<Double> binding,
+            boolean available,
+            ImmutableSet<OptionFlag> flags,
+            @NotNull Class<Double> typeClass,
+            @NotNull Collection<BiConsumer<Option<Double>, Double>> listeners,
+            int instantBatchTicks
+    ) {
+        super(name, tooltipGetter, controlGetter, binding, Binding.OfDouble.class, available, flags, typeClass, listeners, instantBatchTicks);
+
+        takeSnapshot();
+        resetPendingValue();
+    }
+
+    @Override
+    public double pendingDouble() {
+        return pending;
+    }
+
+    @Override
+    public @NotNull Double pendingValue() {
+        return pending;
+    }
+
+    @Override
+    public void requestSetDouble(double value) {
+        pending = value;
+        onPrimitiveValueSet();
+    }
+
+    @Override
+    public void requestSet(Double value) {
+        requestSetDouble(value);
+    }
+
+    @Override
+    public void requestSetDefault() {
+        requestSetDouble(primitiveBinding != null ? primitiveBinding.defaultDouble() : binding().defaultValue());
+    }
+
+    @Override
+    public void addDoubleListener(Listener listener) {
+        addPrimitiveListener(listener);
+    }
+
+    @Override
+    protected void notifyPrimitiveListener(Listener listener) {
+        listener.onChange(this, pending);
+    }
+
+    @Override
+    protected void readSnapshot() {
+        snapshot = primitiveBinding != null ? primitiveBinding.getDouble() : binding().getValue();
+    }
+
+    @Override
+    protected boolean pendingDiffersFromSnapshot() {
+        return Double.compare(snapshot, pending) != 0;
+    }
+
+    @Override
+    protected void writePendingValue() {
+        if (primitiveBinding != null)
+            primitiveBinding.setDouble(pending);
+        else
+            binding().setValue(pending);
+    }
+
+    @Override
+    protected void resetPendingValue() {
+        requestSetDouble(snapshot);
+    }
+}
@@ -0,0 +1,328 @@
+package dev.isxander.yacl.impl;
+
+import dev.isxander.yacl.api.Binding;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Binds directly to a field through method handles resolved once.
+ * <p>
+ * Instance fields have the instance bound into the handles, so static and instance fields
+ * are both accessed through a {@code ()T} getter and {@code (T)void} setter.
+ * Primitive fields use the specialized {@link Binding.OfInt} etc. implementations,
+ * which invoke the handles exactly and never box.
+ * <p>
+ * The handles are held per binding rather than in {@code static final} fields, so the JIT can't
+ * constant-fold them and every access is an indirect call. Configs generated with
+ * {@link dev.isxander.yacl.gen.YACLConfig} access their fields directly instead.
+ */
+public final class FieldBindingImpl<T> implements Binding<T> {
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final T def;
+    private long version;
+
+    private FieldBindingImpl(MethodHandle getter, MethodHandle setter, T def) {
+        this.getter = getter.asType(MethodType.methodType(Object.class));
+        this.setter = setter.asType(MethodType.methodType(void.class, Object.class));
+        this.def = def;
+    }
+
+    /**
+     * Resolves the field and creates the binding matching its type.
+     *
+     * @param owner class to look the field up in, including its superclasses
+     * @param instance instance holding the field, or {@code null} for a static field
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Binding<T> create(Class<?> owner, @Nullable Object instance, String fieldName, T def) {
+        Field field = findField(owner, fieldName);
+        Validate.isTrue(Modifier.isStatic(field.getModifiers()) == (instance == null), "field `%s` must be %s", fieldName, instance == null ? "static" : "an instance field");
+        Validate.isTrue(!Modifier.isFinal(field.getModifiers()), "field `%s` must not be final", fieldName);
+        Validate.isTrue(ClassUtils.isAssignable(def.getClass(), field.getType(), true), "default value of type `%s` does not match field `%s` of type `%s`", def.getClass().getName(), fieldName, field.getType().getName());
+
+        MethodHandle getter, setter;
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(field.getDeclaringClass(), MethodHandles.lookup());
+            getter = lookup.unreflectGetter(field);
+            setter = lookup.unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access field `" + fieldName + "` of " + owner.getName(), e);
+        }
+        if (instance != null) {
+            getter = getter.bindTo(instance);
+            setter = setter.bindTo(instance);
+        }
+
+        Class<?> type = field.getType();
+        if (type == int.class)
+            return (Binding<T>) new OfInt(getter, setter, (Integer) def);
+        if (type == long.class)
+            return (Binding<T>) new OfLong(getter, setter, (Long) def);
+        if (type == float.class)
+            return (Binding<T>) new OfFloat(getter, setter, (Float) def);
+        if (type == double.class)
+            return (Binding<T>) new OfDouble(getter, setter, (Double) def);
+        if (type == boolean.class)
+            return (Binding<T>) new OfBoolean(getter, setter, (Boolean) def);
+        Validate.isTrue(!type.isPrimitive(), "field `%s` has unsupported primitive type `%s`", fieldName, type.getName());
+        return new FieldBindingImpl<>(getter, setter, def);
+    }
+
+    private static Field findField(Class<?> owner, String fieldName) {
+        for (Class<?> clazz = owner; clazz != null; clazz = clazz.getSuperclass()) {
+            try {
+                return clazz.getDeclaredField(fieldName);
+            } catch (NoSuchFieldException ignored) {
+            }
+        }
+        throw new IllegalArgumentException("No field `" + fieldName + "` in " + owner.getName());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T getValue() {
+        try {
+            return (T) getter.invokeExact();
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to get field", t);
+        }
+    }
+
+    @Override
+    public void setValue(T value) {
+        try {
+            setter.invokeExact((Object) value);
+        } catch (Throwable t) {
+            throw new IllegalStateException("Failed to set field", t);
+        }
+        version++;
+    }
+
+    @Override
+    public T defaultValue() {
+        return def;
+    }
+
+    @Override
+    public long version() {
+        return version;
+    }
+
+    private static final class OfInt implements Binding.OfInt {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final int def;
+        private long version;
+
+        private OfInt(MethodHandle getter, MethodHandle setter, int def) {
+            this.getter = getter;
+            this.setter = setter;
+            this.def = def;
+        }
+
+        @Override
+        public int getInt() {
+            try {
+                return (int) getter.invokeExact();
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to get field", t);
+            }
+        }
+
+        @Override
+        public void setInt(int value) {
+            try {
+                setter.invokeExact(value);
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to set field", t);
+            }
+            version++;
+        }
+
+        @Override
+        public int defaultInt() {
+            return def;
+        }
+
+        @Override
+        public long version() {
+            return version;
+        }
+    }
+
+    private static final class OfLong implements Binding.OfLong {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final long def;
+        private long version;
+
+        private OfLong(MethodHandle getter, MethodHandle setter, long def) {
+            this.getter = getter;
+            this.setter = setter;
+            this.def = def;
+        }
+
+        @Override
+        public long getLong() {
+            try {
+                return (long) getter.invokeExact();
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to get field", t);
+            }
+        }
+
+        @Override
+        public void setLong(long value) {
+            try {
+                setter.invokeExact(value);
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to set field", t);
+            }
+            version++;
+        }
+
+        @Override
+        public long defaultLong() {
+            return def;
+        }
+
+        @Override
+        public long version() {
+            return version;
+        }
+    }
+
+    private static final class OfFloat implements Binding.OfFloat {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final float def;
+        private long version;
+
+        private OfFloat(MethodHandle getter, MethodHandle setter, float def) {
+            this.getter = getter;
+            this.setter = setter;
+            this.def = def;
+        }
+
+        @Override
+        public float getFloat() {
+            try {
+                return (float) getter.invokeExact();
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to get field", t);
+            }
+        }
+
+        @Override
+        public void setFloat(float value) {
+            try {
+                setter.invokeExact(value);
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to set field", t);
+            }
+            version++;
+        }
+
+        @Override
+        public float defaultFloat() {
+            return def;
+        }
+
+        @Override
+        public long version() {
+            return version;
+        }
+    }
+
+    private static final class OfDouble implements Binding.OfDouble {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final double def;
+        private long version;
+
+        private OfDouble(MethodHandle getter, MethodHandle setter, double def) {
+            this.getter = getter;
+            this.setter = setter;
+            this.def = def;
+        }
+
+        @Override
+        public double getDouble() {
+            try {
+                return (double) getter.invokeExact();
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to get field", t);
+            }
+        }
+
+        @Override
+        public void setDouble(double value) {
+            try {
+                setter.invokeExact(value);
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to set field", t);
+            }
+            version++;
+        }
+
+        @Override
+        public double defaultDouble() {
+            return def;
+        }
+
+        @Override
+        public long version() {
+            return version;
+        }
+    }
+
+    private static final class OfBoolean implements Binding.OfBoolean {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final boolean def;
+        private long version;
+
+        private OfBoolean(MethodHandle getter, MethodHandle setter, boolean def) {
+            this.getter = getter;
+            this.setter = setter;
+            this.def = def;
+        }
+
+        @Override
+        public boolean getBoolean() {
+            try {
+                return (boolean) getter.invokeExact();
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to get field", t);
+            }
+        }
+
+        @Override
+        public void setBoolean(boolean value) {
+            try {
+                setter.invokeExact(value);
+            } catch (Throwable t) {
+                throw new IllegalStateException("Failed to set field", t);
+            }
+            version++;
+        }
+
+        @Override
+        public boolean defaultBoolean() {
+            return def;
+        }
+
+        @Override
+        public long version() {
+            return version;
+        }
+    }
+}
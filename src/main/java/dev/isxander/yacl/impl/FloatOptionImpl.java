@@ -0,0 +1,99 @@
+package dev.isxander.yacl.impl;
+
+import com.google.common.collect.ImmutableSet;
+import dev.isxander.yacl.api.Binding;
+import dev.isxander.yacl.api.Controller;
+import dev.isxander.yacl.api.FloatOption;
+import dev.isxander.yacl.api.Option;
+import dev.isxander.yacl.api.OptionFlag;
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+@ApiStatus.Internal
+public class FloatOptionImpl extends AbstractPrimitiveOptionImpl<Float, Binding.OfFloat, FloatOption.Listener> implements FloatOption {
+    private float pending;
+
+    private float snapshot;
+
+    public FloatOptionImpl(
+            @NotNull Text name,
+            @Nullable Function<Float, Text> tooltipGetter,
+            @NotNull Function<Option<Float>, Controller<Float>> controlGetter,
+            @NotNull Binding<Float> binding,
+            boolean available,
+            ImmutableSet<OptionFlag> flags,
+            @NotNull Class<Float> typeClass,
+            @NotNull Collection<BiConsumer<Option<Float>, Float>> listeners,
+            int instantBatchTicks
+    ) {
+        super(name, tooltipGetter, controlGetter, binding, Binding.OfFloat.class, available, flags, typeClass, listeners, instantBatchTicks);
+
+        takeSnapshot();
+        resetPendingValue();
+    }
+
+    @Override
+    public float pendingFloat() {
+        return pending;
+    }
+
+    @Override
+    public @NotNull Float pendingValue() {
+        return pending;
+    }
+
+    @Override
+    public void requestSetFloat(float value) {
+        pending = value;
+        onPrimitiveValueSet();
+    }
+
+    @Override
+    public void requestSet(Float value) {
+        requestSetFloat(value);
+    }
+
+    @Override
+    public void requestSetDefault() {
+        requestSetFloat(primitiveBinding != null ? primitiveBinding.defaultFloat() : binding().defaultValue());
+    }
+
+    @Override
+    public void addFloatListener(Listener listener) {
+        addPrimitiveListener(listener);
+    }
+
+    @Override
+    protected void notifyPrimitiveListener(Listener listener) {
+        listener.onChange(this, pending);
+    }
+
+    @Override
+    protected void readSnapshot() {
+        snapshot = primitiveBinding != null ? primitiveBinding.getFloat() : binding().getValue();
+    }
+
+    @Override
+    protected boolean pendingDiffersFromSnapshot() {
+        return Float.compare(snapshot, pending) != 0;
+    }
+
+    @Override
+    protected void writePendingValue() {
+        if (primitiveBinding != null)
+            primitiveBinding.setFloat(pending);
+        else
+            binding().setValue(pending);
+    }
+
+    @Override
+    protected void resetPendingValue() {
+        requestSetFloat(snapshot);
+    }
+}
@@ -9,6 +9,7 @@ public class GenericBindingImpl<T> implements Binding<T> {
     private final T def;
     private final Supplier<T> getter;
     private final Consumer<T> setter;
+    private long version;
 
     public GenericBindingImpl(T def, Supplier<T> getter, Consumer<T> setting) {
         this.def = def;
@@ -20,6 +21,7 @@ public class GenericBindingImpl<T> implements Binding<T> {
     @Override
     public void setValue(T value) {
         setter.accept(value);
+        version++;
     }
 
     @Override
@@ -32,4 +34,9 @@ public class GenericBindingImpl<T> implements Binding<T> {
         return def;
     }
 
+    @Override
+    public long version() {
+        return version;
+    }
+
 }
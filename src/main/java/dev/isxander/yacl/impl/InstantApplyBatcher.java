@@ -0,0 +1,105 @@
+package dev.isxander.yacl.impl;
+
+import dev.isxander.yacl.api.ConfigCategory;
+import dev.isxander.yacl.api.Option;
+import dev.isxander.yacl.api.OptionGroup;
+import dev.isxander.yacl.api.YetAnotherConfigLib;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Collects changes to options built with {@link Option.Builder#batchedInstant(int)}
+ * so the GUI can apply them together once no option has changed for their quiet period.
+ * <p>
+ * Options of lazy categories are added once the category is built.
+ */
+@ApiStatus.Internal
+public class InstantApplyBatcher {
+    /** Batchers of configs that aren't {@link YetAnotherConfigLibImpl}, so each config is only tracked once. */
+    private static final Map<YetAnotherConfigLib, InstantApplyBatcher> EXTERNAL_BATCHERS = new WeakHashMap<>();
+
+    private final Set<Option<?>> pendingOptions = new LinkedHashSet<>();
+    private int quietTicks;
+    private int requiredQuietTicks;
+
+    public InstantApplyBatcher(YetAnotherConfigLib config) {
+        for (ConfigCategory category : config.categories()) {
+            if (category instanceof LazyConfigCategoryImpl lazyCategory)
+                lazyCategory.addBuildListener(this::trackCategory);
+            else
+                trackCategory(category);
+        }
+    }
+
+    /**
+     * Gets the batcher of a config, creating it the first time if the config doesn't keep its own.
+     */
+    public static InstantApplyBatcher of(YetAnotherConfigLib config) {
+        if (config instanceof YetAnotherConfigLibImpl impl)
+            return impl.instantBatcher();
+
+        synchronized (EXTERNAL_BATCHERS) {
+            return EXTERNAL_BATCHERS.computeIfAbsent(config, InstantApplyBatcher::new);
+        }
+    }
+
+    private void trackCategory(ConfigCategory category) {
+        for (OptionGroup group : category.groups()) {
+            for (Option<?> option : group.options()) {
+                if (option instanceof AbstractOptionImpl<?> optionImpl && optionImpl.instantBatchTicks() >= 0)
+                    optionImpl.addPendingValueListener(() -> onChange(optionImpl));
+            }
+        }
+    }
+
+    private synchronized void onChange(AbstractOptionImpl<?> option) {
+        if (!option.changed()) {
+            pendingOptions.remove(option);
+            return;
+        }
+
+        pendingOptions.add(option);
+        quietTicks = 0;
+        requiredQuietTicks = Math.max(requiredQuietTicks, option.instantBatchTicks());
+    }
+
+    /**
+     * Advances the quiet period by a tick.
+     *
+     * @return the options to apply now, empty if there are none or they are still changing
+     */
+    public synchronized List<Option<?>> tick() {
+        if (pendingOptions.isEmpty() || quietTicks++ < requiredQuietTicks)
+            return List.of();
+        return drain();
+    }
+
+    /**
+     * Checks if every given option is waiting in the batch, without applying anything.
+     */
+    public synchronized boolean containsAll(Collection<? extends Option<?>> options) {
+        return pendingOptions.containsAll(options);
+    }
+
+    /**
+     * Gets every pending option regardless of the quiet period, for when the GUI is about to discard them.
+     */
+    public synchronized List<Option<?>> drain() {
+        List<Option<?>> options = new ArrayList<>();
+        for (Option<?> option : pendingOptions) {
+            if (option.changed())
+                options.add(option);
+        }
+        pendingOptions.clear();
+        quietTicks = 0;
+        requiredQuietTicks = 0;
+        return options;
+    }
+}
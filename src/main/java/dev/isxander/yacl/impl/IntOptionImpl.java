@@ -0,0 +1,99 @@
+package dev.isxander.yacl.impl;
+
+import com.google.common.collect.ImmutableSet;
+import dev.isxander.yacl.api.Binding;
+import dev.isxander.yacl.api.Controller;
+import dev.isxander.yacl.api.IntOption;
+import dev.isxander.yacl.api.Option;
+import dev.isxander.yacl.api.OptionFlag;
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+@ApiStatus.Internal
+public class IntOptionImpl extends AbstractPrimitiveOptionImpl<Integer, Binding.OfInt, IntOption.Listener> implements IntOption {
+    private int pending;
+
+    private int snapshot;
+
+    public IntOptionImpl(
+            @NotNull Text name,
+            @Nullable Function<Integer, Text> tooltipGetter,
+            @NotNull Function<Option<Integer>, Controller<Integer>> controlGetter,
+            @NotNull Binding<Integer> binding,
+            boolean available,
+            ImmutableSet<OptionFlag> flags,
+            @NotNull Class<Integer> typeClass,
+            @NotNull Collection<BiConsumer<Option<Integer>, Integer>> listeners,
+            int instantBatchTicks
+    ) {
+        super(name, tooltipGetter, controlGetter, binding, Binding.OfInt.class, available, flags, typeClass, listeners, instantBatchTicks);
+
+        takeSnapshot();
+        resetPendingValue();
+    }
+
+    @Override
+    public int pendingInt() {
+        return pending;
+    }
+
+    @Override
+    public @NotNull Integer pendingValue() {
+        return pending;
+    }
+
+    @Override
+    public void requestSetInt(int value) {
+        pending = value;
+        onPrimitiveValueSet();
+    }
+
+    @Override
+    public void requestSet(Integer value) {
+        requestSetInt(value);
+    }
+
+    @Override
+    public void requestSetDefault() {
+        requestSetInt(primitiveBinding != null ? primitiveBinding.defaultInt() : binding().defaultValue());
+    }
+
+    @Override
+    public void addIntListener(Listener listener) {
+        addPrimitiveListener(listener);
+    }
+
+    @Override
+    protected void notifyPrimitiveListener(Listener listener) {
+        listener.onChange(this, pending);
+    }
+
+    @Override
+    protected void readSnapshot() {
+        snapshot = primitiveBinding != null ? primitiveBinding.getInt() : binding().getValue();
+    }
+
+    @Override
+    protected boolean pendingDiffersFromSnapshot() {
+        return snapshot != pending;
+    }
+
+    @Override
+    protected void writePendingValue() {
+        if (primitiveBinding != null)
+            primitiveBinding.setInt(pending);
+        else
+            binding().setValue(pending);
+    }
+
+    @Override
+    protected void resetPendingValue() {
+        requestSetInt(snapshot);
+    }
+}
@@ -0,0 +1,99 @@
+package dev.isxander.yacl.impl;
+
+import com.google.common.collect.ImmutableList;
+import dev.isxander.yacl.api.ConfigCategory;
+import dev.isxander.yacl.api.OptionGroup;
+import dev.isxander.yacl.api.PlaceholderCategory;
+import net.minecraft.text.Text;
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A category that is only built the first time its groups are needed.
+ * Its name is known up front so it can be shown in the category list before being built.
+ */
+@ApiStatus.Internal
+public final class LazyConfigCategoryImpl implements ConfigCategory {
+    private final Text name;
+    private final Supplier<ConfigCategory> supplier;
+    private final List<Consumer<ConfigCategory>> buildListeners = new ArrayList<>();
+
+    private volatile ConfigCategory category;
+
+    public LazyConfigCategoryImpl(Text name, Supplier<ConfigCategory> supplier) {
+        this.name = name;
+        this.supplier = supplier;
+    }
+
+    /**
+     * Checks if the category's options exist yet. Regular categories are always built.
+     */
+    public static boolean isBuilt(ConfigCategory category) {
+        return !(category instanceof LazyConfigCategoryImpl lazy) || lazy.isBuilt();
+    }
+
+    public boolean isBuilt() {
+        return category != null;
+    }
+
+    /**
+     * Builds the category if it hasn't been yet. Safe to call from any thread.
+     */
+    public ConfigCategory get() {
+        ConfigCategory category = this.category;
+        if (category != null)
+            return category;
+
+        synchronized (this) {
+            if (this.category == null) {
+                ConfigCategory built = supplier.get();
+                Validate.notNull(built, "lazy category `%s` supplied null", name.getString());
+                Validate.isTrue(!(built instanceof PlaceholderCategory), "lazy category `%s` cannot supply a placeholder category", name.getString());
+
+                this.category = built;
+                buildListeners.forEach(listener -> listener.accept(built));
+                buildListeners.clear();
+            }
+            return this.category;
+        }
+    }
+
+    /**
+     * Runs the listener once the category is built, or straight away if it already is.
+     * The listener runs on whichever thread built the category.
+     */
+    public void addBuildListener(Consumer<ConfigCategory> listener) {
+        synchronized (this) {
+            if (category == null) {
+                buildListeners.add(listener);
+                return;
+            }
+        }
+        listener.accept(category);
+    }
+
+    @Override
+    public @NotNull Text name() {
+        return name;
+    }
+
+    @Override
+    public @NotNull ImmutableList<OptionGroup> groups() {
+        return get().groups();
+    }
+
+    /**
+     * Tooltip of the built category, empty until then so hovering its button doesn't build it.
+     */
+    @Override
+    public @NotNull Text tooltip() {
+        ConfigCategory category = this.category;
+        return category != null ? category.tooltip() : Text.empty();
+    }
+}
@@ -0,0 +1,99 @@
+package dev.isxander.yacl.impl;
+
+import com.google.common.collect.ImmutableSet;
+import dev.isxander.yacl.api.Binding;
+import dev.isxander.yacl.api.Controller;
+import dev.isxander.yacl.api.LongOption;
+import dev.isxander.yacl.api.Option;
+import dev.isxander.yacl.api.OptionFlag;
+import net.minecraft.text.Text;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+@ApiStatus.Internal
+public class LongOptionImpl extends AbstractPrimitiveOptionImpl<Long, Binding.OfLong, LongOption.Listener> implements LongOption {
+    private long pending;
+
+    private long snapshot;
+
+    public LongOptionImpl(
+            @NotNull Text name,
+            @Nullable Function<Long, Text> tooltipGetter,
+            @NotNull Function<Option<Long>, Controller<Long>> controlGetter,
+            @NotNull Binding<Long> binding,
+            boolean available,
+            ImmutableSet<OptionFlag> flags,
+            @NotNull Class<Long> typeClass,
+            @NotNull Collection<BiConsumer<Option<Long>, Long>> listeners,
+            int instantBatchTicks
+    ) {
+        super(name, tooltipGetter, controlGetter, binding, Binding.OfLong.class, available, flags, typeClass, listeners, instantBatchTicks);
+
+        takeSnapshot();
+        resetPendingValue();
+    }
+
+    @Override
+    public long pendingLong() {
+        return pending;
+    }
+
+    @Override
+    public @NotNull Long pendingValue() {
+        return pending;
+    }
+
+    @Override
+    public void requestSetLong(long value) {
+        pending = value;
+        onPrimitiveValueSet();
+    }
+
+    @Override
+    public void requestSet(Long value) {
+        requestSetLong(value);
+    }
+
+    @Override
+    public void requestSetDefault() {
+        requestSetLong(primitiveBinding != null ? primitiveBinding.defaultLong() : binding().defaultValue());
+    }
+
+    @Override
+    public void addLongListener(Listener listener) {
+        addPrimitiveListener(listener);
+    }
+
+    @Override
+    protected void notifyPrimitiveListener(Listener listener) {
+        listener.onChange(this, pending);
+    }
+
+    @Override
+    protected void readSnapshot() {
+        snapshot = primitiveBinding != null ? primitiveBinding.getLong() : binding().getValue();
+    }
+
+    @Override
+    protected boolean pendingDiffersFromSnapshot() {
+        return snapshot != pending;
+    }
+
+    @Override
+    protected void writePendingValue() {
+        if (primitiveBinding != null)
+            primitiveBinding.setLong(pending);
+        else
+            binding().setValue(pending);
+    }
+
+    @Override
+    protected void resetPendingValue() {
+        requestSetLong(snapshot);
+    }
+}
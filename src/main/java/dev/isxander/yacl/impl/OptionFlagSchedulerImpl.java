@@ -0,0 +1,187 @@
+package dev.isxander.yacl.impl;
+
+import com.mojang.logging.LogUtils;
+import dev.isxander.yacl.api.OptionFlag;
+import dev.isxander.yacl.api.OptionFlagScheduler;
+import net.minecraft.client.MinecraftClient;
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.ApiStatus;
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+@ApiStatus.Internal
+public final class OptionFlagSchedulerImpl implements OptionFlagScheduler {
+    public static final OptionFlagSchedulerImpl INSTANCE = new OptionFlagSchedulerImpl();
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    /** Every flag made redundant by running the key, transitively. */
+    private static final Map<OptionFlag, Set<OptionFlag>> SUBSUMES = Map.of(
+            OptionFlag.ASSET_RELOAD, Set.of(OptionFlag.RELOAD_CHUNKS, OptionFlag.WORLD_RENDER_UPDATE),
+            OptionFlag.RELOAD_CHUNKS, Set.of(OptionFlag.WORLD_RENDER_UPDATE)
+    );
+
+    private final Map<OptionFlag, CompletableFuture<Void>> pendingFlags = new LinkedHashMap<>();
+    private CompletableFuture<Void> running = CompletableFuture.completedFuture(null);
+    private int holds;
+    private boolean runQueued;
+
+    private OptionFlagSchedulerImpl() {
+    }
+
+    @Override
+    public synchronized CompletableFuture<Void> schedule(Collection<OptionFlag> flags) {
+        Validate.notNull(flags, "`flags` must not be null");
+
+        if (flags.isEmpty())
+            return CompletableFuture.completedFuture(null);
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (OptionFlag flag : flags) {
+            Validate.notNull(flag, "`flags` must not contain null");
+            futures.add(pendingFlags.computeIfAbsent(flag, f -> new CompletableFuture<>()));
+        }
+
+        if (holds == 0)
+            queueRun();
+
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    @Override
+    public synchronized CompletableFuture<Void> whenIdle() {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(pendingFlags.values());
+        futures.add(running);
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    @Override
+    public void runPending() {
+        Validate.validState(MinecraftClient.getInstance().isOnThread(), "option flags must be run on the client thread");
+
+        Map<OptionFlag, CompletableFuture<Void>> flags;
+        synchronized (this) {
+            runQueued = false;
+            if (pendingFlags.isEmpty())
+                return;
+
+            flags = new LinkedHashMap<>(pendingFlags);
+            pendingFlags.clear();
+        }
+
+        runFlags(flags);
+    }
+
+    @Override
+    public CompletableFuture<Void> runNow(Collection<OptionFlag> flags) {
+        Validate.notNull(flags, "`flags` must not be null");
+        Validate.validState(MinecraftClient.getInstance().isOnThread(), "option flags must be run on the client thread");
+
+        if (flags.isEmpty())
+            return CompletableFuture.completedFuture(null);
+
+        Map<OptionFlag, CompletableFuture<Void>> toRun = new LinkedHashMap<>();
+        synchronized (this) {
+            for (OptionFlag flag : flags) {
+                Validate.notNull(flag, "`flags` must not contain null");
+                // anyone already waiting on the flag is completed by this run
+                CompletableFuture<Void> pending = pendingFlags.remove(flag);
+                toRun.put(flag, pending != null ? pending : new CompletableFuture<>());
+            }
+        }
+
+        runFlags(toRun);
+        return CompletableFuture.allOf(toRun.values().toArray(new CompletableFuture[0]));
+    }
+
+    private void runFlags(Map<OptionFlag, CompletableFuture<Void>> flags) {
+        MinecraftClient client = MinecraftClient.getInstance();
+        CompletableFuture<Void> restart = flags.remove(OptionFlag.GAME_RESTART);
+
+        // run everything that isn't covered by another flag first,
+        // so the futures of subsumed flags can follow the flag that covers them
+        List<CompletableFuture<Void>> completions = new ArrayList<>();
+        for (Map.Entry<OptionFlag, CompletableFuture<Void>> entry : flags.entrySet()) {
+            if (getSubsumer(entry.getKey(), flags.keySet()) == null) {
+                forward(run(entry.getKey(), client), entry.getValue(), client);
+                completions.add(entry.getValue());
+            }
+        }
+        for (Map.Entry<OptionFlag, CompletableFuture<Void>> entry : flags.entrySet()) {
+            OptionFlag subsumer = getSubsumer(entry.getKey(), flags.keySet());
+            if (subsumer != null)
+                forward(flags.get(subsumer), entry.getValue(), client);
+        }
+
+        CompletableFuture<Void> done = CompletableFuture.allOf(completions.toArray(new CompletableFuture[0]));
+        if (restart != null) {
+            // the restart prompt replaces the current screen, so only show it once everything else has finished
+            done.whenCompleteAsync((result, throwable) -> forward(run(OptionFlag.GAME_RESTART, client), restart, client), client);
+            done = CompletableFuture.allOf(done, restart);
+        }
+
+        synchronized (this) {
+            CompletableFuture<Void> finished = done.exceptionally(throwable -> null);
+            running = running.isDone() ? finished : CompletableFuture.allOf(running, finished);
+        }
+    }
+
+    /**
+     * Stops flags from running until {@link #release()}, used while a YACL screen is open.
+     */
+    public synchronized void hold() {
+        holds++;
+    }
+
+    public synchronized void release() {
+        Validate.validState(holds > 0, "scheduler is not held");
+
+        if (--holds == 0 && !pendingFlags.isEmpty())
+            queueRun();
+    }
+
+    private void queueRun() {
+        if (!runQueued) {
+            runQueued = true;
+            MinecraftClient.getInstance().execute(this::runPending);
+        }
+    }
+
+    private static OptionFlag getSubsumer(OptionFlag flag, Set<OptionFlag> pending) {
+        for (OptionFlag other : pending) {
+            if (SUBSUMES.getOrDefault(other, Set.of()).contains(flag))
+                return other;
+        }
+        return null;
+    }
+
+    private static CompletableFuture<Void> run(OptionFlag flag, MinecraftClient client) {
+        try {
+            // the only built-in flag that finishes later, everything else is done once it returns
+            if (flag == OptionFlag.ASSET_RELOAD)
+                return client.reloadResourcesConcurrently();
+
+            flag.accept(client);
+            return CompletableFuture.completedFuture(null);
+        } catch (Exception e) {
+            LOGGER.error("Failed to run option flag", e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static void forward(CompletableFuture<Void> source, CompletableFuture<Void> target, MinecraftClient client) {
+        source.whenCompleteAsync((result, throwable) -> {
+            if (throwable != null)
+                target.completeExceptionally(throwable);
+            else
+                target.complete(null);
+        }, client);
+    }
+}
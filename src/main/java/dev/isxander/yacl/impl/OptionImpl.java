@@ -6,30 +6,17 @@ import dev.isxander.yacl.api.Controller;
 import dev.isxander.yacl.api.Option;
 import dev.isxander.yacl.api.OptionFlag;
 import net.minecraft.text.Text;
-import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
-public class OptionImpl<T> implements Option<T> {
-    private final Text name;
-    private Text tooltip;
-    private final Controller<T> controller;
-    private final Binding<T> binding;
-    private boolean available;
-
-    private final ImmutableSet<OptionFlag> flags;
-
-    private final Class<T> typeClass;
-
+public class OptionImpl<T> extends AbstractOptionImpl<T> {
     private T pendingValue;
 
-    private final List<BiConsumer<Option<T>, T>> listeners;
+    private T snapshotValue;
 
     public OptionImpl(
             @NotNull Text name,
@@ -41,66 +28,60 @@ public class OptionImpl<T> implements Option<T> {
             @NotNull Class<T> typeClass,
             @NotNull Collection<BiConsumer<Option<T>, T>> listeners
     ) {
-        this.name = name;
-        this.binding = binding;
-        this.available = available;
-        this.flags = flags;
-        this.typeClass = typeClass;
-        this.listeners = new ArrayList<>(listeners);
-        this.controller = controlGetter.apply(this);
-
-        addListener((opt, pending) -> tooltip = tooltipGetter.apply(pending));
-        requestSet(binding().getValue());
-    }
-
-    @Override
-    public @NotNull Text name() {
-        return name;
-    }
-
-    @Override
-    public @NotNull Text tooltip() {
-        return tooltip;
-    }
-
-    @Override
-    public @NotNull Controller<T> controller() {
-        return controller;
-    }
-
-    @Override
-    public @NotNull Binding<T> binding() {
-        return binding;
+        this(name, tooltipGetter, controlGetter, binding, available, flags, typeClass, listeners, -1);
     }
 
-    @Override
-    public boolean available() {
-        return available;
-    }
-
-    @Override
-    public void setAvailable(boolean available) {
-        this.available = available;
-    }
+    public OptionImpl(
+            @NotNull Text name,
+            @Nullable Function<T, Text> tooltipGetter,
+            @NotNull Function<Option<T>, Controller<T>> controlGetter,
+            @NotNull Binding<T> binding,
+            boolean available,
+            ImmutableSet<OptionFlag> flags,
+            @NotNull Class<T> typeClass,
+            @NotNull Collection<BiConsumer<Option<T>, T>> listeners,
+            int instantBatchTicks
+    ) {
+        super(name, tooltipGetter, controlGetter, binding, available, flags, typeClass, listeners, instantBatchTicks);
 
-    @Override
-    public @NotNull Class<T> typeClass() {
-        return typeClass;
+        takeSnapshot();
+        resetPendingValue();
     }
 
-    @Override
-    public @NotNull ImmutableSet<OptionFlag> flags() {
-        return flags;
-    }
+    /**
+     * Creates an option, using the primitive specialization for
+     * {@code int}, {@code long}, {@code float}, {@code double} and {@code boolean} types.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Option<T> create(
+            @NotNull Text name,
+            @Nullable Function<T, Text> tooltipGetter,
+            @NotNull Function<Option<T>, Controller<T>> controlGetter,
+            @NotNull Binding<T> binding,
+            boolean available,
+            ImmutableSet<OptionFlag> flags,
+            @NotNull Class<T> typeClass,
+            @NotNull Collection<BiConsumer<Option<T>, T>> listeners,
+            int instantBatchTicks
+    ) {
+        Function tooltip = tooltipGetter;
+        Function controller = controlGetter;
+        Collection listenerList = listeners;
+        Class type = typeClass;
+        Binding bindingRaw = binding;
 
-    @Override
-    public boolean requiresRestart() {
-        return flags.contains(OptionFlag.GAME_RESTART);
-    }
+        if (typeClass == int.class || typeClass == Integer.class)
+            return (Option<T>) new IntOptionImpl(name, tooltip, controller, bindingRaw, available, flags, type, listenerList, instantBatchTicks);
+        if (typeClass == long.class || typeClass == Long.class)
+            return (Option<T>) new LongOptionImpl(name, tooltip, controller, bindingRaw, available, flags, type, listenerList, instantBatchTicks);
+        if (typeClass == float.class || typeClass == Float.class)
+            return (Option<T>) new FloatOptionImpl(name, tooltip, controller, bindingRaw, available, flags, type, listenerList, instantBatchTicks);
+        if (typeClass == double.class || typeClass == Double.class)
+            return (Option<T>) new DoubleOptionImpl(name, tooltip, controller, bindingRaw, available, flags, type, listenerList, instantBatchTicks);
+        if (typeClass == boolean.class || typeClass == Boolean.class)
+            return (Option<T>) new BooleanOptionImpl(name, tooltip, controller, bindingRaw, available, flags, type, listenerList, instantBatchTicks);
 
-    @Override
-    public boolean changed() {
-        return !binding().getValue().equals(pendingValue);
+        return new OptionImpl<>(name, tooltipGetter, controlGetter, binding, available, flags, typeClass, listeners, instantBatchTicks);
     }
 
     @Override
@@ -111,30 +92,26 @@ public class OptionImpl<T> implements Option<T> {
     @Override
     public void requestSet(T value) {
         pendingValue = value;
-        listeners.forEach(listener -> listener.accept(this, pendingValue));
+        onPendingValueSet();
     }
 
     @Override
-    public boolean applyValue() {
-        if (changed()) {
-            binding().setValue(pendingValue);
-            return true;
-        }
-        return false;
+    protected void readSnapshot() {
+        snapshotValue = binding().getValue();
     }
 
     @Override
-    public void forgetPendingValue() {
-        pendingValue = binding().getValue();
+    protected boolean pendingDiffersFromSnapshot() {
+        return !snapshotValue.equals(pendingValue);
     }
 
     @Override
-    public void requestSetDefault() {
-        pendingValue = binding().defaultValue();
+    protected void writePendingValue() {
+        binding().setValue(pendingValue);
     }
 
     @Override
-    public void addListener(BiConsumer<Option<T>, T> changedListener) {
-        this.listeners.add(changedListener);
+    protected void resetPendingValue() {
+        requestSet(snapshotValue);
     }
 }
@@ -0,0 +1,264 @@
+package dev.isxander.yacl.impl;
+
+import dev.isxander.yacl.api.ConfigCategory;
+import dev.isxander.yacl.api.Option;
+import dev.isxander.yacl.api.OptionGroup;
+import dev.isxander.yacl.api.YetAnotherConfigLib;
+import dev.isxander.yacl.gui.controllers.ActionController;
+import dev.isxander.yacl.gui.controllers.LabelController;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Trigram index over the searchable text of every option in a {@link YetAnotherConfigLib}.
+ * <p>
+ * Each option is indexed by its name, its group name and, if there is more than one category, its category name.
+ * Queries of three or more characters only verify options that contain every trigram of the query,
+ * and a query that extends the previous one only re-checks the previous results.
+ * <p>
+ * The text of {@link LabelController}s can change at any time, so labels are not indexed by it
+ * and are checked against their current text on every search instead.
+ * <p>
+ * Options with controllers from other mods are also listed in {@link #customControllerMatches()},
+ * as their widgets may match on text the index doesn't know about.
+ * <p>
+ * Lazy categories that haven't been built yet are not indexed.
+ */
+@ApiStatus.Internal
+public class OptionSearchIndex {
+    private static final int NAME_PREFIX_SCORE = 100;
+    private static final int NAME_WORD_SCORE = 75;
+    private static final int NAME_SCORE = 50;
+    private static final int GROUP_SCORE = 20;
+    private static final int CATEGORY_SCORE = 10;
+
+    private final Match[] matches;
+    /** Searchable name of each option, null for labels which are read on demand. */
+    private final String[] names;
+    private final String[] groupNames;
+    private final String[] categoryNames;
+    private final int[] allDocs;
+    private final int[] labelDocs;
+    private final List<Match> customControllerMatches;
+
+    private final Long2ObjectOpenHashMap<int[]> postings = new Long2ObjectOpenHashMap<>();
+
+    private String lastQuery;
+    private int[] lastDocs;
+    private List<Match> lastResults;
+
+    public OptionSearchIndex(YetAnotherConfigLib config) {
+        boolean searchCategories = config.categories().size() > 1;
+
+        List<Match> matches = new ArrayList<>();
+        IntArrayList labelDocs = new IntArrayList();
+        List<Match> customControllerMatches = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<String> groupNames = new ArrayList<>();
+        List<String> categoryNames = new ArrayList<>();
+        for (ConfigCategory category : config.categories()) {
+            if (!LazyConfigCategoryImpl.isBuilt(category))
+                continue;
+
+            String categoryName = searchCategories ? normalize(category.name().getString()) : "";
+            for (OptionGroup group : category.groups()) {
+                String groupName = normalize(group.name().getString());
+                for (Option<?> option : group.options()) {
+                    boolean label = option.controller() instanceof LabelController;
+                    if (label)
+                        labelDocs.add(matches.size());
+                    Match match = new Match(category, group, option);
+                    matches.add(match);
+                    if (!option.controller().getClass().getName().startsWith("dev.isxander.yacl."))
+                        customControllerMatches.add(match);
+                    names.add(label ? null : getSearchableName(option));
+                    groupNames.add(groupName);
+                    categoryNames.add(categoryName);
+                }
+            }
+        }
+
+        this.matches = matches.toArray(new Match[0]);
+        this.names = names.toArray(new String[0]);
+        this.groupNames = groupNames.toArray(new String[0]);
+        this.categoryNames = categoryNames.toArray(new String[0]);
+        this.allDocs = new int[this.matches.length];
+        Arrays.setAll(allDocs, i -> i);
+        this.labelDocs = labelDocs.toIntArray();
+        this.customControllerMatches = List.copyOf(customControllerMatches);
+
+        Long2ObjectOpenHashMap<IntArrayList> builder = new Long2ObjectOpenHashMap<>();
+        for (int doc = 0; doc < this.matches.length; doc++) {
+            if (this.names[doc] != null)
+                indexTrigrams(builder, this.names[doc], doc);
+            indexTrigrams(builder, this.groupNames[doc], doc);
+            indexTrigrams(builder, this.categoryNames[doc], doc);
+        }
+        builder.long2ObjectEntrySet().fastForEach(entry -> postings.put(entry.getLongKey(), entry.getValue().toIntArray()));
+    }
+
+    /**
+     * Gets every option whose controller doesn't come from YACL, in config order.
+     */
+    public List<Match> customControllerMatches() {
+        return customControllerMatches;
+    }
+
+    /**
+     * Finds every option matching the query, ranked from most to least relevant.
+     * Matching is a case-insensitive substring search.
+     */
+    public List<Match> search(String query) {
+        query = normalize(query);
+        // labels may have changed since the last search
+        if (query.equals(lastQuery) && labelDocs.length == 0)
+            return lastResults;
+
+        int[] candidates;
+        if (lastQuery != null && query.contains(lastQuery)) {
+            // every option matching the new query also matched the previous one
+            candidates = union(lastDocs, labelDocs);
+        } else if (query.length() >= 3) {
+            candidates = union(getTrigramCandidates(query), labelDocs);
+        } else {
+            candidates = allDocs;
+        }
+
+        IntArrayList matchedDocs = new IntArrayList();
+        IntArrayList scores = new IntArrayList();
+        for (int doc : candidates) {
+            int score = score(doc, query);
+            if (score > 0) {
+                matchedDocs.add(doc);
+                scores.add(score);
+            }
+        }
+
+        Integer[] order = new Integer[matchedDocs.size()];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, (a, b) -> scores.getInt(a) != scores.getInt(b) ? Integer.compare(scores.getInt(b), scores.getInt(a)) : Integer.compare(a, b));
+
+        List<Match> results = new ArrayList<>(order.length);
+        for (int i : order) {
+            results.add(matches[matchedDocs.getInt(i)]);
+        }
+
+        lastQuery = query;
+        lastDocs = matchedDocs.toIntArray();
+        lastResults = results;
+        return results;
+    }
+
+    private int score(int doc, String query) {
+        int score = 0;
+
+        String name = names[doc] != null ? names[doc] : getSearchableName(matches[doc].option());
+        int nameIdx = name.indexOf(query);
+        if (nameIdx == 0)
+            score += NAME_PREFIX_SCORE;
+        else if (nameIdx > 0 && !Character.isLetterOrDigit(name.charAt(nameIdx - 1)))
+            score += NAME_WORD_SCORE;
+        else if (nameIdx > 0)
+            score += NAME_SCORE;
+
+        if (groupNames[doc].contains(query))
+            score += GROUP_SCORE;
+        if (categoryNames[doc].contains(query))
+            score += CATEGORY_SCORE;
+
+        return score;
+    }
+
+    private int[] getTrigramCandidates(String query) {
+        int trigramCount = query.length() - 2;
+        int[][] lists = new int[trigramCount][];
+        for (int i = 0; i < trigramCount; i++) {
+            int[] posting = postings.get(trigram(query, i));
+            if (posting == null)
+                return new int[0];
+            lists[i] = posting;
+        }
+
+        // intersect starting from the rarest trigram to keep the working set small
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.length, b.length));
+        int[] result = lists[0];
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            result = intersect(result, lists[i]);
+        }
+        return result;
+    }
+
+    private static int[] union(int[] a, int[] b) {
+        if (b.length == 0)
+            return a;
+        if (a.length == 0)
+            return b;
+
+        int[] result = new int[a.length + b.length];
+        int size = 0;
+        int i = 0, j = 0;
+        while (i < a.length || j < b.length) {
+            if (j >= b.length || i < a.length && a[i] < b[j]) result[size++] = a[i++];
+            else if (i >= a.length || b[j] < a[i]) result[size++] = b[j++];
+            else {
+                result[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int size = 0;
+        int i = 0, j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else {
+                result[size++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static void indexTrigrams(Long2ObjectOpenHashMap<IntArrayList> builder, String text, int doc) {
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            IntArrayList posting = builder.computeIfAbsent(trigram(text, i), k -> new IntArrayList());
+            // docs are indexed in ascending order so only the last element can be a duplicate
+            if (posting.isEmpty() || posting.getInt(posting.size() - 1) != doc)
+                posting.add(doc);
+        }
+    }
+
+    private static long trigram(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    private static String getSearchableName(Option<?> option) {
+        if (option.controller() instanceof LabelController labelController)
+            return normalize(labelController.formatValue().getString());
+        if (option.controller() instanceof ActionController actionController)
+            return normalize(option.name().getString() + " " + actionController.formatValue().getString());
+        return normalize(option.name().getString());
+    }
+
+    private static String normalize(String string) {
+        return string.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * An option matching a search, along with where it is in the config.
+     */
+    public record Match(ConfigCategory category, OptionGroup group, Option<?> option) {
+    }
+}
@@ -2,16 +2,145 @@ package dev.isxander.yacl.impl;
 
 import com.google.common.collect.ImmutableList;
 import dev.isxander.yacl.api.ConfigCategory;
+import dev.isxander.yacl.api.OptionChange;
 import dev.isxander.yacl.api.YetAnotherConfigLib;
 import dev.isxander.yacl.gui.YACLScreen;
 import net.minecraft.client.gui.screen.Screen;
 import net.minecraft.text.Text;
+import org.jetbrains.annotations.ApiStatus;
 
+import java.util.Objects;
 import java.util.function.Consumer;
 
-public record YetAnotherConfigLibImpl(Text title, ImmutableList<ConfigCategory> categories, Runnable saveFunction, Consumer<YACLScreen> initConsumer) implements YetAnotherConfigLib {
+public final class YetAnotherConfigLibImpl implements YetAnotherConfigLib {
+    private final Text title;
+    private final ImmutableList<ConfigCategory> categories;
+    private final Consumer<ImmutableList<OptionChange<?>>> saveFunction;
+    private final boolean asyncSave;
+    private final Consumer<YACLScreen> initConsumer;
+
+    private final ChangedOptionsTracker changedOptions;
+    private final InstantApplyBatcher instantBatcher;
+    private OptionSearchIndex searchIndex;
+    private int searchIndexBuiltCategories;
+    private AsyncConfigSaver asyncSaver;
+
+    public YetAnotherConfigLibImpl(Text title, ImmutableList<ConfigCategory> categories, Consumer<ImmutableList<OptionChange<?>>> saveFunction, boolean asyncSave, Consumer<YACLScreen> initConsumer) {
+        this.title = title;
+        this.categories = categories;
+        this.saveFunction = saveFunction;
+        this.asyncSave = asyncSave;
+        this.initConsumer = initConsumer;
+        this.changedOptions = new ChangedOptionsTracker(this);
+        this.instantBatcher = new InstantApplyBatcher(this);
+    }
+
+    @Override
+    public Text title() {
+        return title;
+    }
+
+    @Override
+    public ImmutableList<ConfigCategory> categories() {
+        return categories;
+    }
+
+    @Override
+    public Runnable saveFunction() {
+        return () -> saveFunction.accept(ImmutableList.of());
+    }
+
+    @Override
+    public Consumer<ImmutableList<OptionChange<?>>> saveChangesFunction() {
+        return saveFunction;
+    }
+
+    @Override
+    public boolean asyncSave() {
+        return asyncSave;
+    }
+
+    @Override
+    public Consumer<YACLScreen> initConsumer() {
+        return initConsumer;
+    }
+
+    @ApiStatus.Internal
+    public ChangedOptionsTracker changedOptions() {
+        return changedOptions;
+    }
+
+    @ApiStatus.Internal
+    public InstantApplyBatcher instantBatcher() {
+        return instantBatcher;
+    }
+
+    /**
+     * Gets the search index, rebuilding it if lazy categories were built since it was created.
+     */
+    @ApiStatus.Internal
+    public OptionSearchIndex searchIndex() {
+        int builtCategories = 0;
+        for (ConfigCategory category : categories) {
+            if (LazyConfigCategoryImpl.isBuilt(category))
+                builtCategories++;
+        }
+
+        if (searchIndex == null || builtCategories != searchIndexBuiltCategories) {
+            searchIndexBuiltCategories = builtCategories;
+            searchIndex = new OptionSearchIndex(this);
+        }
+        return searchIndex;
+    }
+
+    /**
+     * Checks if every lazy category has been built.
+     */
+    @ApiStatus.Internal
+    public boolean isFullyBuilt() {
+        for (ConfigCategory category : categories) {
+            if (!LazyConfigCategoryImpl.isBuilt(category))
+                return false;
+        }
+        return true;
+    }
+
+    @ApiStatus.Internal
+    public AsyncConfigSaver asyncSaver() {
+        if (asyncSaver == null)
+            asyncSaver = new AsyncConfigSaver(saveFunction);
+        return asyncSaver;
+    }
+
     @Override
     public Screen generateScreen(Screen parent) {
         return new YACLScreen(this, parent);
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof YetAnotherConfigLibImpl that)) return false;
+        return asyncSave == that.asyncSave
+                && title.equals(that.title)
+                && categories.equals(that.categories)
+                && saveFunction.equals(that.saveFunction)
+                && initConsumer.equals(that.initConsumer);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(title, categories, saveFunction, asyncSave, initConsumer);
+    }
+
+    @Override
+    public String toString() {
+        return "YetAnotherConfigLibImpl[" +
+                "title=" + title +
+                ", categories=" + categories +
+                ", saveFunction=" + saveFunction +
+                ", asyncSave=" + asyncSave +
+                ", initConsumer=" + initConsumer +
+                ']';
+    }
 }
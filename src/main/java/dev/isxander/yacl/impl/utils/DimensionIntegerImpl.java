@@ -1,8 +1,9 @@
 package dev.isxander.yacl.impl.utils;
 
 import dev.isxander.yacl.api.utils.Dimension;
+import dev.isxander.yacl.api.utils.IntDimension;
 
-public class DimensionIntegerImpl implements Dimension<Integer> {
+public class DimensionIntegerImpl implements IntDimension {
     private int x, y;
     private int width, height;
 
@@ -13,6 +14,36 @@ public class DimensionIntegerImpl implements Dimension<Integer> {
         this.height = height;
     }
 
+    @Override public int getX() { return x; }
+    @Override public int getY() { return y; }
+    @Override public int getWidth() { return width; }
+    @Override public int getHeight() { return height; }
+
+    @Override
+    public int getXLimit() {
+        return x + width;
+    }
+
+    @Override
+    public int getYLimit() {
+        return y + height;
+    }
+
+    @Override
+    public int getCenterX() {
+        return x + width / 2;
+    }
+
+    @Override
+    public int getCenterY() {
+        return y + height / 2;
+    }
+
+    @Override
+    public boolean isPointInside(int x, int y) {
+        return x >= this.x && x <= getXLimit() && y >= this.y && y <= getYLimit();
+    }
+
     @Override
     public Integer x() {
         return x;
@@ -35,80 +66,95 @@ public class DimensionIntegerImpl implements Dimension<Integer> {
 
     @Override
     public Integer xLimit() {
-        return x + width;
+        return getXLimit();
     }
 
     @Override
     public Integer yLimit() {
-        return y + height;
+        return getYLimit();
     }
 
     @Override
     public Integer centerX() {
-        return x + width / 2;
+        return getCenterX();
     }
 
     @Override
     public Integer centerY() {
-        return y + height / 2;
+        return getCenterY();
     }
 
     @Override
     public boolean isPointInside(Integer x, Integer y) {
-        return x >= x() && x <= xLimit() && y >= y() && y <= yLimit();
+        return isPointInside((int) x, (int) y);
     }
 
     @Override
-    public Dimension<Integer> clone() {
+    public IntDimension clone() {
         return new DimensionIntegerImpl(x, y, width, height);
     }
 
-    @Override public Dimension<Integer> setX(Integer x) { this.x = x; return this; }
-    @Override public Dimension<Integer> setY(Integer y) { this.y = y; return this; }
-    @Override public Dimension<Integer> setWidth(Integer width) { this.width = width; return this; }
-    @Override public Dimension<Integer> setHeight(Integer height) { this.height = height; return this; }
+    @Override public IntDimension setX(int x) { this.x = x; return this; }
+    @Override public IntDimension setY(int y) { this.y = y; return this; }
+    @Override public IntDimension setWidth(int width) { this.width = width; return this; }
+    @Override public IntDimension setHeight(int height) { this.height = height; return this; }
+
+    @Override public Dimension<Integer> setX(Integer x) { return setX((int) x); }
+    @Override public Dimension<Integer> setY(Integer y) { return setY((int) y); }
+    @Override public Dimension<Integer> setWidth(Integer width) { return setWidth((int) width); }
+    @Override public Dimension<Integer> setHeight(Integer height) { return setHeight((int) height); }
 
     @Override
     public Dimension<Integer> withX(Integer x) {
-        return clone().setX(x);
+        return clone().setX((int) x);
     }
 
     @Override
     public Dimension<Integer> withY(Integer y) {
-        return clone().setY(y);
+        return clone().setY((int) y);
     }
 
     @Override
     public Dimension<Integer> withWidth(Integer width) {
-        return clone().withWidth(width);
+        return clone().setWidth((int) width);
     }
 
     @Override
     public Dimension<Integer> withHeight(Integer height) {
-        return clone().withHeight(height);
+        return clone().setHeight((int) height);
     }
 
     @Override
-    public Dimension<Integer> move(Integer x, Integer y) {
+    public IntDimension move(int x, int y) {
         this.x += x;
         this.y += y;
         return this;
     }
 
     @Override
-    public Dimension<Integer> expand(Integer width, Integer height) {
+    public IntDimension expand(int width, int height) {
         this.width += width;
         this.height += height;
         return this;
     }
 
+    @Override
+    public Dimension<Integer> move(Integer x, Integer y) {
+        return move((int) x, (int) y);
+    }
+
+    @Override
+    public Dimension<Integer> expand(Integer width, Integer height) {
+        return expand((int) width, (int) height);
+    }
+
     @Override
     public Dimension<Integer> moved(Integer x, Integer y) {
-        return clone().move(x, y);
+        return clone().move((int) x, (int) y);
     }
 
     @Override
     public Dimension<Integer> expanded(Integer width, Integer height) {
-        return clone().expand(width, height);
+        return clone().expand((int) width, (int) height);
     }
 }
@@ -0,0 +1,466 @@
+package dev.isxander.yacl.gen.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Generates a {@code YetAnotherConfigLib} factory for every class annotated with {@code @YACLConfig}.
+ * <p>
+ * Annotations are looked up by name so the processor doesn't depend on the library or Minecraft.
+ * Everything the builders would validate at runtime is checked here and reported as a compile error.
+ */
+@SupportedAnnotationTypes({YACLConfigProcessor.CONFIG_ANNOTATION, YACLConfigProcessor.OPTION_ANNOTATION, YACLConfigProcessor.SLIDER_ANNOTATION})
+public class YACLConfigProcessor extends AbstractProcessor {
+    static final String CONFIG_ANNOTATION = "dev.isxander.yacl.gen.YACLConfig";
+    static final String OPTION_ANNOTATION = "dev.isxander.yacl.gen.YACLOption";
+    static final String SLIDER_ANNOTATION = "dev.isxander.yacl.gen.YACLSlider";
+
+    private static final List<String> FLAGS = List.of("GAME_RESTART", "RELOAD_CHUNKS", "WORLD_RENDER_UPDATE", "ASSET_RELOAD");
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement configAnnotation = processingEnv.getElementUtils().getTypeElement(CONFIG_ANNOTATION);
+        TypeElement optionAnnotation = processingEnv.getElementUtils().getTypeElement(OPTION_ANNOTATION);
+        TypeElement sliderAnnotation = processingEnv.getElementUtils().getTypeElement(SLIDER_ANNOTATION);
+        if (configAnnotation == null || optionAnnotation == null || sliderAnnotation == null)
+            return false;
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(optionAnnotation)) {
+            if (getAnnotation(element.getEnclosingElement(), CONFIG_ANNOTATION) == null)
+                error(element, "@YACLOption fields must be in a class annotated with @YACLConfig");
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(sliderAnnotation)) {
+            if (getAnnotation(element, OPTION_ANNOTATION) == null)
+                error(element, "@YACLSlider must be used with @YACLOption");
+        }
+
+        for (Element element : roundEnv.getElementsAnnotatedWith(configAnnotation)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                error(element, "@YACLConfig must be used on a class");
+                continue;
+            }
+
+            TypeElement type = (TypeElement) element;
+            ConfigModel model = readConfig(type);
+            if (model == null)
+                continue;
+
+            try {
+                writeConfig(model);
+            } catch (IOException e) {
+                error(type, "Failed to write generated config: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private ConfigModel readConfig(TypeElement type) {
+        boolean valid = true;
+        if (type.getModifiers().contains(Modifier.PRIVATE)) {
+            error(type, "@YACLConfig classes must not be private");
+            valid = false;
+        }
+        if (type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC)) {
+            error(type, "nested @YACLConfig classes must be static");
+            valid = false;
+        }
+
+        AnnotationMirror config = getAnnotation(type, CONFIG_ANNOTATION);
+        String prefix = (String) getValue(config, "translationPrefix");
+        ConfigModel model = new ConfigModel(type, (String) getValue(config, "title"), prefix);
+
+        Set<String> bindingNames = new HashSet<>();
+        boolean hasOptions = false;
+        for (Element member : type.getEnclosedElements()) {
+            AnnotationMirror option = getAnnotation(member, OPTION_ANNOTATION);
+            if (option == null)
+                continue;
+            hasOptions = true;
+
+            VariableElement field = (VariableElement) member;
+            OptionModel optionModel = readOption(field, option, prefix);
+            if (optionModel == null) {
+                valid = false;
+                continue;
+            }
+
+            String bindingName = capitalize(field.getSimpleName().toString()) + "Binding";
+            while (!bindingNames.add(bindingName))
+                bindingName = "_" + bindingName;
+            optionModel.bindingClass = bindingName;
+
+            String category = (String) getValue(option, "category");
+            String group = (String) getValue(option, "group");
+            model.categories.computeIfAbsent(category, key -> new LinkedHashMap<>())
+                    .computeIfAbsent(group, key -> new ArrayList<>())
+                    .add(optionModel);
+        }
+
+        if (!hasOptions) {
+            error(type, "@YACLConfig classes must have at least one @YACLOption field");
+            valid = false;
+        }
+
+        return valid ? model : null;
+    }
+
+    private OptionModel readOption(VariableElement field, AnnotationMirror option, String prefix) {
+        boolean valid = true;
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.FINAL)) {
+            error(field, "@YACLOption fields must not be private, static or final");
+            valid = false;
+        }
+
+        String category = (String) getValue(option, "category");
+        if (category.isEmpty()) {
+            error(field, "@YACLOption category must not be empty");
+            valid = false;
+        }
+
+        List<String> flags = new ArrayList<>();
+        for (Object flag : (List<?>) getValue(option, "flags")) {
+            String name = (String) ((AnnotationValue) flag).getValue();
+            if (!FLAGS.contains(name)) {
+                error(field, "unknown option flag `" + name + "`, expected one of " + FLAGS);
+                valid = false;
+            }
+            flags.add(name);
+        }
+
+        boolean instant = (Boolean) getValue(option, "instant");
+        if (instant && !flags.isEmpty()) {
+            error(field, "instant application does not support option flags");
+            valid = false;
+        }
+
+        String controller = getController(field);
+        if (controller == null)
+            valid = false;
+
+        if (!valid)
+            return null;
+
+        String fieldName = field.getSimpleName().toString();
+        OptionModel model = new OptionModel();
+        model.field = fieldName;
+        model.type = field.asType();
+        model.boxedType = getBoxedName(field.asType());
+        model.classLiteral = getClassLiteral(field.asType());
+        model.nameKey = prefix + ".option." + fieldName;
+        model.tooltip = (Boolean) getValue(option, "tooltip");
+        model.flags = flags;
+        model.instant = instant;
+        model.controller = controller;
+        return model;
+    }
+
+    /**
+     * Gets the controller factory expression for the field, or {@code null} after reporting why it has none.
+     */
+    private String getController(VariableElement field) {
+        TypeMirror type = field.asType();
+        AnnotationMirror slider = getAnnotation(field, SLIDER_ANNOTATION);
+        TypeKind kind = type.getKind().isPrimitive() ? type.getKind() : unboxedKind(type);
+
+        if (kind == TypeKind.INT || kind == TypeKind.LONG || kind == TypeKind.FLOAT || kind == TypeKind.DOUBLE) {
+            if (slider == null) {
+                error(field, "numeric @YACLOption fields need @YACLSlider");
+                return null;
+            }
+
+            double min = (Double) getValue(slider, "min");
+            double max = (Double) getValue(slider, "max");
+            double step = (Double) getValue(slider, "step");
+            if (!(min < max) || !(step > 0)) {
+                error(field, "@YACLSlider needs min < max and step > 0");
+                return null;
+            }
+
+            String controllerClass;
+            String minLiteral, maxLiteral, stepLiteral;
+            switch (kind) {
+                case INT, LONG -> {
+                    if (Math.rint(min) != min || Math.rint(max) != max || Math.rint(step) != step) {
+                        error(field, "@YACLSlider values must be whole numbers for integer fields");
+                        return null;
+                    }
+                    boolean isInt = kind == TypeKind.INT;
+                    if (isInt && (min < Integer.MIN_VALUE || max > Integer.MAX_VALUE || step > Integer.MAX_VALUE)) {
+                        error(field, "@YACLSlider values must fit in an int");
+                        return null;
+                    }
+                    controllerClass = isInt ? "dev.isxander.yacl.gui.controllers.slider.IntegerSliderController" : "dev.isxander.yacl.gui.controllers.slider.LongSliderController";
+                    String suffix = isInt ? "" : "L";
+                    minLiteral = (long) min + suffix;
+                    maxLiteral = (long) max + suffix;
+                    stepLiteral = (long) step + suffix;
+                }
+                case FLOAT -> {
+                    controllerClass = "dev.isxander.yacl.gui.controllers.slider.FloatSliderController";
+                    minLiteral = (float) min + "f";
+                    maxLiteral = (float) max + "f";
+                    stepLiteral = (float) step + "f";
+                }
+                default -> {
+                    controllerClass = "dev.isxander.yacl.gui.controllers.slider.DoubleSliderController";
+                    minLiteral = Double.toString(min);
+                    maxLiteral = Double.toString(max);
+                    stepLiteral = Double.toString(step);
+                }
+            }
+            return "opt -> new " + controllerClass + "(opt, " + minLiteral + ", " + maxLiteral + ", " + stepLiteral + ")";
+        }
+
+        if (slider != null) {
+            error(field, "@YACLSlider can only be used on numeric fields");
+            return null;
+        }
+
+        if (kind == TypeKind.BOOLEAN)
+            return "dev.isxander.yacl.gui.controllers.TickBoxController::new";
+        if (isType(type, "java.lang.String"))
+            return "dev.isxander.yacl.gui.controllers.string.StringController::new";
+        if (isType(type, "java.awt.Color"))
+            return "dev.isxander.yacl.gui.controllers.ColorController::new";
+        if (type.getKind() == TypeKind.DECLARED && ((DeclaredType) type).asElement().getKind() == ElementKind.ENUM)
+            return "dev.isxander.yacl.gui.controllers.EnumController::new";
+
+        error(field, "no controller for @YACLOption fields of type " + type);
+        return null;
+    }
+
+    private void writeConfig(ConfigModel model) throws IOException {
+        TypeElement type = model.type;
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String configClass = type.getQualifiedName().toString();
+        String generatedName = getGeneratedName(type);
+
+        StringBuilder out = new StringBuilder();
+        if (!packageName.isEmpty())
+            out.append("package ").append(packageName).append(";\n\n");
+
+        out.append("/**\n");
+        out.append(" * Generated from {@link ").append(configClass).append("}.\n");
+        out.append(" */\n");
+        out.append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n");
+        out.append("public final class ").append(generatedName).append(" {\n");
+        out.append("    private ").append(generatedName).append("() {\n");
+        out.append("    }\n\n");
+
+        out.append("    /**\n");
+        out.append("     * @param config instance the options are bound to\n");
+        out.append("     * @param defaults instance holding the default values\n");
+        out.append("     * @param saveFunction ran when changes are saved\n");
+        out.append("     */\n");
+        out.append("    public static dev.isxander.yacl.api.YetAnotherConfigLib create(").append(configClass).append(" config, ")
+                .append(configClass).append(" defaults, Runnable saveFunction) {\n");
+        out.append("        return dev.isxander.yacl.api.YetAnotherConfigLib.createBuilder()\n");
+        out.append("                .title(").append(translatable(model.title)).append(")\n");
+        for (Map.Entry<String, Map<String, List<OptionModel>>> category : model.categories.entrySet()) {
+            out.append("                .category(dev.isxander.yacl.api.ConfigCategory.createBuilder()\n");
+            out.append("                        .name(").append(translatable(model.prefix + ".category." + category.getKey())).append(")\n");
+            for (Map.Entry<String, List<OptionModel>> group : category.getValue().entrySet()) {
+                if (group.getKey().isEmpty()) {
+                    for (OptionModel option : group.getValue()) {
+                        writeOption(out, option, "                        ");
+                    }
+                } else {
+                    out.append("                        .group(dev.isxander.yacl.api.OptionGroup.createBuilder()\n");
+                    out.append("                                .name(").append(translatable(model.prefix + ".group." + group.getKey())).append(")\n");
+                    for (OptionModel option : group.getValue()) {
+                        writeOption(out, option, "                                ");
+                    }
+                    out.append("                                .build())\n");
+                }
+            }
+            out.append("                        .build())\n");
+        }
+        out.append("                .save(saveFunction)\n");
+        out.append("                .build();\n");
+        out.append("    }\n");
+
+        for (Map<String, List<OptionModel>> groups : model.categories.values()) {
+            for (List<OptionModel> options : groups.values()) {
+                for (OptionModel option : options) {
+                    writeBinding(out, configClass, option);
+                }
+            }
+        }
+        out.append("}\n");
+
+        String qualifiedName = packageName.isEmpty() ? generatedName : packageName + "." + generatedName;
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+        try (Writer writer = file.openWriter()) {
+            writer.write(out.toString());
+        }
+    }
+
+    private static void writeOption(StringBuilder out, OptionModel option, String indent) {
+        out.append(indent).append(".option(dev.isxander.yacl.api.Option.createBuilder(").append(option.classLiteral).append(")\n");
+        String inner = indent + "        ";
+        out.append(inner).append(".name(").append(translatable(option.nameKey)).append(")\n");
+        if (option.tooltip)
+            out.append(inner).append(".tooltip(").append(translatable(option.nameKey + ".tooltip")).append(")\n");
+        out.append(inner).append(".binding(new ").append(option.bindingClass).append("(config, defaults))\n");
+        out.append(inner).append(".controller(").append(option.controller).append(")\n");
+        for (String flag : option.flags) {
+            out.append(inner).append(".flag(dev.isxander.yacl.api.OptionFlag.").append(flag).append(")\n");
+        }
+        if (option.instant)
+            out.append(inner).append(".instant(true)\n");
+        out.append(inner).append(".build())\n");
+    }
+
+    private static void writeBinding(StringBuilder out, String configClass, OptionModel option) {
+        String type = option.type.toString();
+        // primitive fields get the matching Binding.OfInt etc. so options never box them
+        String specialization = switch (option.type.getKind()) {
+            case INT -> "Int";
+            case LONG -> "Long";
+            case FLOAT -> "Float";
+            case DOUBLE -> "Double";
+            case BOOLEAN -> "Boolean";
+            default -> null;
+        };
+        String valueType = specialization != null ? type : option.boxedType;
+        String suffix = specialization != null ? specialization : "Value";
+
+        out.append("\n");
+        out.append("    private static final class ").append(option.bindingClass).append(" implements dev.isxander.yacl.api.Binding");
+        if (specialization != null)
+            out.append(".Of").append(specialization).append(" {\n");
+        else
+            out.append("<").append(option.boxedType).append("> {\n");
+        out.append("        private final ").append(configClass).append(" config;\n");
+        out.append("        private final ").append(type).append(" defaultValue;\n\n");
+        out.append("        ").append(option.bindingClass).append("(").append(configClass).append(" config, ").append(configClass).append(" defaults) {\n");
+        out.append("            this.config = config;\n");
+        out.append("            this.defaultValue = defaults.").append(option.field).append(";\n");
+        out.append("        }\n\n");
+        out.append("        @Override\n");
+        out.append("        public void set").append(suffix).append("(").append(valueType).append(" value) {\n");
+        out.append("            config.").append(option.field).append(" = value;\n");
+        out.append("        }\n\n");
+        out.append("        @Override\n");
+        out.append("        public ").append(valueType).append(" get").append(suffix).append("() {\n");
+        out.append("            return config.").append(option.field).append(";\n");
+        out.append("        }\n\n");
+        out.append("        @Override\n");
+        out.append("        public ").append(valueType).append(" default").append(suffix).append("() {\n");
+        out.append("            return defaultValue;\n");
+        out.append("        }\n");
+        out.append("    }\n");
+    }
+
+    private String getBoxedName(TypeMirror type) {
+        if (type.getKind().isPrimitive())
+            return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        return type.toString();
+    }
+
+    private String getClassLiteral(TypeMirror type) {
+        if (type.getKind().isPrimitive())
+            return type + ".class";
+        return processingEnv.getTypeUtils().erasure(type) + ".class";
+    }
+
+    private TypeKind unboxedKind(TypeMirror type) {
+        try {
+            return processingEnv.getTypeUtils().unboxedType(type).getKind();
+        } catch (IllegalArgumentException e) {
+            return TypeKind.NONE;
+        }
+    }
+
+    private boolean isType(TypeMirror type, String qualifiedName) {
+        return type.getKind() == TypeKind.DECLARED
+                && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(qualifiedName);
+    }
+
+    private static String getGeneratedName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        Element enclosing = type.getEnclosingElement();
+        while (enclosing instanceof TypeElement enclosingType) {
+            name.insert(0, enclosingType.getSimpleName() + "_");
+            enclosing = enclosingType.getEnclosingElement();
+        }
+        return name.append("YACL").toString();
+    }
+
+    private static String translatable(String key) {
+        return "net.minecraft.text.Text.translatable(\"" + escape(key) + "\")";
+    }
+
+    private static String escape(String string) {
+        return string.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static String capitalize(String string) {
+        return Character.toUpperCase(string.charAt(0)) + string.substring(1);
+    }
+
+    private static AnnotationMirror getAnnotation(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation))
+                return mirror;
+        }
+        return null;
+    }
+
+    private Object getValue(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name))
+                return entry.getValue().getValue();
+        }
+        throw new IllegalArgumentException("no annotation value `" + name + "`");
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static class ConfigModel {
+        final TypeElement type;
+        final String title;
+        final String prefix;
+        /** category -> group -> options, in declaration order */
+        final Map<String, Map<String, List<OptionModel>>> categories = new LinkedHashMap<>();
+
+        ConfigModel(TypeElement type, String title, String prefix) {
+            this.type = type;
+            this.title = title;
+            this.prefix = prefix;
+        }
+    }
+
+    private static class OptionModel {
+        String field;
+        TypeMirror type;
+        String boxedType;
+        String classLiteral;
+        String nameKey;
+        boolean tooltip;
+        List<String> flags;
+        boolean instant;
+        String controller;
+        String bindingClass;
+    }
+}
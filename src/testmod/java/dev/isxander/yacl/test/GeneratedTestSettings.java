@@ -0,0 +1,37 @@
+package dev.isxander.yacl.test;
+
+import dev.isxander.yacl.gen.YACLConfig;
+import dev.isxander.yacl.gen.YACLOption;
+import dev.isxander.yacl.gen.YACLSlider;
+
+import java.awt.*;
+
+@YACLConfig(title = "test-mod.generated.title", translationPrefix = "test-mod.generated")
+public class GeneratedTestSettings {
+    public static final GeneratedTestSettings INSTANCE = new GeneratedTestSettings();
+    public static final GeneratedTestSettings DEFAULTS = new GeneratedTestSettings();
+
+    @YACLOption(category = "general", tooltip = true)
+    public boolean enabled = true;
+
+    @YACLOption(category = "general", group = "sliders")
+    @YACLSlider(min = 0, max = 10, step = 1)
+    public int intSlider = 5;
+
+    @YACLOption(category = "general", group = "sliders")
+    @YACLSlider(min = 0, max = 1, step = 0.05)
+    public float floatSlider = 0.5f;
+
+    @YACLOption(category = "other")
+    public String text = "Hello";
+
+    @YACLOption(category = "other")
+    public Color color = Color.red;
+
+    @YACLOption(category = "other", flags = "GAME_RESTART")
+    public Alphabet alphabet = Alphabet.A;
+
+    public enum Alphabet {
+        A, B, C
+    }
+}
@@ -41,6 +41,11 @@ public class ModMenuIntegration implements ModMenuApi {
                                 .controller(ActionController::new)
                                 .action(screen -> MinecraftClient.getInstance().setScreen(getWikiGroups(screen)))
                                 .build())
+                        .option(ButtonOption.createBuilder()
+                                .name(Text.of("Generated Test Suite"))
+                                .controller(ActionController::new)
+                                .action(screen -> MinecraftClient.getInstance().setScreen(GeneratedTestSettingsYACL.create(GeneratedTestSettings.INSTANCE, GeneratedTestSettings.DEFAULTS, () -> {}).generateScreen(screen)))
+                                .build())
                         .option(ButtonOption.createBuilder()
                                 .name(Text.of("Unavailable Test Suite"))
                                 .controller(ActionController::new)
@@ -109,6 +114,8 @@ public class ModMenuIntegration implements ModMenuApi {
                                         .build())
                                 .option(Option.createBuilder(double.class)
                                         .name(Text.of("Double Slider"))
+                                        .batchedInstant(10)
+                                        .flag(OptionFlag.WORLD_RENDER_UPDATE)
                                         .binding(
                                                 0.0,
                                                 () -> TestSettings.doubleSlider,